@@ -0,0 +1,78 @@
+package com.bookWise.user.service.audit;
+
+import com.bookWise.user.service.config.AuditLogProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão sustentada do log de auditoria, por política de fsync: cada operação só termina quando
+ * o evento entra na fila, esperando o escritor liberar espaço se preciso, então o resultado é
+ * o ritmo em que a thread escritora grava nos segmentos (meta: acima de 100 mil eventos/s). O
+ * fim do fork imprime eventos gravados, tentativas com a fila cheia e segmentos criados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-jmh.xml")
+public class AuditLogBenchmark {
+
+	@Param({"NONE", "INTERVAL", "BATCH"})
+	private AuditLogProperties.FsyncPolicy fsync;
+
+	private Path directory;
+	private AuditLogWriter writer;
+	private UUID userId;
+	private InetAddress address;
+
+	@Setup
+	public void setup() throws IOException {
+		directory = Files.createTempDirectory("audit-benchmark");
+
+		AuditLogProperties properties = new AuditLogProperties();
+		properties.setDirectory(directory.toString());
+		properties.setSegmentSize(DataSize.ofMegabytes(64));
+		properties.setFsync(fsync);
+		writer = new AuditLogWriter(properties);
+
+		userId = UUID.randomUUID();
+		address = InetAddress.getByName("10.0.0.7");
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		writer.close();
+		System.out.printf("%nfsync %s: %d gravados, %d vezes com a fila cheia, %d segmentos%n", fsync,
+				writer.getWrittenCount(), writer.getDroppedCount(), AuditSegment.list(directory).size());
+		FileSystemUtils.deleteRecursively(directory);
+	}
+
+	@Benchmark
+	public boolean append() {
+		AuditRecord record = AuditRecord.of(AuditEventType.LOGIN_SUCCESS, userId, address, "benchmark@bookwise.com");
+		while (!writer.append(record)) {
+			Thread.onSpinWait();
+		}
+		return true;
+	}
+}
@@ -0,0 +1,76 @@
+package com.bookWise.user.service.model.event;
+
+import com.bookWise.user.service.mapper.UserEventMapper;
+import com.bookWise.user.service.model.entity.User;
+import com.bookWise.user.service.model.enums.EventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem do {@link UserEvent} e sua conversão para mensagem AMQP, com o mesmo
+ * {@link SimpleMessageConverter} (serialização Java) usado pelo RabbitTemplate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-jmh.xml")
+public class UserEventBenchmark {
+
+	private UserEventMapper userEventMapper;
+	private SimpleMessageConverter messageConverter;
+	private User user;
+	private UserEvent event;
+	private Message message;
+
+	@Setup
+	public void setup() {
+		userEventMapper = UserEventMapper.INSTANCE;
+		messageConverter = new SimpleMessageConverter();
+		messageConverter.setAllowedListPatterns(List.of(
+				"com.bookWise.user.service.model.event.*",
+				"com.bookWise.user.service.model.enums.*",
+				"java.util.UUID",
+				"java.lang.Enum"));
+
+		user = new User();
+		user.setId(UUID.randomUUID());
+		user.setName("Benchmark User");
+		user.setEmail("benchmark@bookwise.com");
+		user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3mlvq7yGZz4Z5gu5hZ5hZ5h");
+
+		event = userEventMapper.toUserEvent(user, EventType.USER_CREATED);
+		message = messageConverter.toMessage(event, new MessageProperties());
+	}
+
+	@Benchmark
+	public UserEvent toUserEvent() {
+		return userEventMapper.toUserEvent(user, EventType.USER_CREATED);
+	}
+
+	@Benchmark
+	public Message serialize() {
+		return messageConverter.toMessage(event, new MessageProperties());
+	}
+
+	@Benchmark
+	public Object deserialize() {
+		return messageConverter.fromMessage(message);
+	}
+}
@@ -0,0 +1,94 @@
+package com.bookWise.user.service.security;
+
+import com.bookWise.user.service.config.JwtProperties;
+import com.bookWise.user.service.config.UserCacheProperties;
+import com.bookWise.user.service.metrics.AuthMetrics;
+import com.bookWise.user.service.model.entity.User;
+import com.bookWise.user.service.repository.UserAuthRepository;
+import com.bookWise.user.service.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho completo de uma requisição autenticada pelo filtro, do cabeçalho ao
+ * {@code SecurityContext}, com o mesmo token em todas as requisições (um cliente com sessão
+ * ativa), servido pelos caches de token verificado e de principal. A busca do usuário é um
+ * stub. Rodar com {@code -prof gc} para ver bytes alocados por requisição.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-jmh.xml")
+public class AuthenticatedRequestBenchmark {
+
+	private JwtAuthenticationFilter filter;
+	private MockHttpServletRequest request;
+
+	@Setup
+	public void setup() {
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setSecretKey("yrnt4BE6yc21XfQidT6ooRvjzzif2k0CdCdPiX4Qors9XhREarz0nq4nHh8tUwsO");
+
+		UserAuthRepository userAuthRepository = (UserAuthRepository) Proxy.newProxyInstance(
+				UserAuthRepository.class.getClassLoader(),
+				new Class<?>[]{UserAuthRepository.class},
+				(proxy, method, args) -> "save".equals(method.getName()) ? args[0] : null);
+
+		User user = new User();
+		user.setId(UUID.randomUUID());
+		user.setName("Benchmark User");
+		user.setEmail("benchmark@bookwise.com");
+		user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3mlvq7yGZz4Z5gu5hZ5hZ5h");
+		UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+				UserRepository.class.getClassLoader(),
+				new Class<?>[]{UserRepository.class},
+				(proxy, method, args) -> "findByEmailIgnoreCase".equals(method.getName()) ? Optional.of(user) : null);
+
+		AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+		JwtProvider jwtProvider = new JwtProvider(jwtProperties, userAuthRepository, authMetrics);
+		jwtProvider.init();
+
+		// sem o registro da invalidação (@PostConstruct), que precisa do Hibernate
+		PrincipalCache principalCache = new PrincipalCache(new CustomUserDetailsService(userRepository, authMetrics),
+				null, new UserCacheProperties(), new SimpleMeterRegistry());
+		VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtProvider, "authenticationTokens",
+				10_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+		filter = new JwtAuthenticationFilter(verifiedTokenCache, principalCache, authMetrics, new PublicRoutes());
+
+		request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+		request.setContextPath("/api/v1");
+		request.addHeader("Authorization", "Bearer " + jwtProvider.generateAccessToken(user));
+	}
+
+	@Benchmark
+	public Object authenticatedRequest() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		try {
+			filter.doFilter(request, response, new MockFilterChain());
+			return SecurityContextHolder.getContext().getAuthentication();
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.bookWise.user.service.security;
+
+import com.bookWise.user.service.config.JwtProperties;
+import com.bookWise.user.service.metrics.AuthMetrics;
+import com.bookWise.user.service.model.entity.User;
+import com.bookWise.user.service.repository.UserAuthRepository;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Geração e validação de tokens de acesso, nos dois formatos de {@code jwt.token-format}. A
+ * persistência do token é substituída por um repositório que só devolve a entidade, para medir
+ * apenas o JWT. O tamanho do token de cada formato é impresso no início do fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-jmh.xml")
+public class JwtProviderBenchmark {
+
+	@Param({"STANDARD", "COMPACT"})
+	private JwtProperties.TokenFormat format;
+
+	private JwtProvider jwtProvider;
+	private User user;
+	private String token;
+	private String tamperedToken;
+
+	@Setup
+	public void setup() {
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setSecretKey("yrnt4BE6yc21XfQidT6ooRvjzzif2k0CdCdPiX4Qors9XhREarz0nq4nHh8tUwsO");
+		jwtProperties.setTokenFormat(format);
+
+		UserAuthRepository userAuthRepository = (UserAuthRepository) Proxy.newProxyInstance(
+				UserAuthRepository.class.getClassLoader(),
+				new Class<?>[]{UserAuthRepository.class},
+				(proxy, method, args) -> "save".equals(method.getName()) ? args[0] : null);
+
+		jwtProvider = new JwtProvider(jwtProperties, userAuthRepository, new AuthMetrics(new SimpleMeterRegistry()));
+		jwtProvider.init();
+
+		user = new User();
+		user.setId(UUID.randomUUID());
+		user.setName("Benchmark User");
+		user.setEmail("benchmark@bookwise.com");
+
+		token = jwtProvider.generateAccessToken(user);
+		tamperedToken = token.substring(0, token.length() - 4) + "AAAA";
+		System.out.printf("%nToken %s: %d caracteres%n", format, token.length());
+	}
+
+	@Benchmark
+	public String generateAccessToken() {
+		return jwtProvider.generateAccessToken(user);
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtProvider.validateToken(token);
+	}
+
+	@Benchmark
+	public boolean validateTamperedToken() {
+		return jwtProvider.validateToken(tamperedToken);
+	}
+
+	@Benchmark
+	public Claims getAllClaimsFromToken() {
+		return jwtProvider.getAllClaimsFromToken(token);
+	}
+}
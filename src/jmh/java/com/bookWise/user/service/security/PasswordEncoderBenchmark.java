@@ -0,0 +1,52 @@
+package com.bookWise.user.service.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do BCrypt por fator de trabalho; o SecurityConfig usa o padrão (10).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-jmh.xml")
+public class PasswordEncoderBenchmark {
+
+	private static final String PASSWORD = "benchmark-password";
+
+	@Param({"4", "10", "12"})
+	private int strength;
+
+	private BCryptPasswordEncoder passwordEncoder;
+	private String hash;
+
+	@Setup
+	public void setup() {
+		passwordEncoder = new BCryptPasswordEncoder(strength);
+		hash = passwordEncoder.encode(PASSWORD);
+	}
+
+	@Benchmark
+	public String encode() {
+		return passwordEncoder.encode(PASSWORD);
+	}
+
+	@Benchmark
+	public boolean matches() {
+		return passwordEncoder.matches(PASSWORD, hash);
+	}
+}
@@ -0,0 +1,94 @@
+package com.bookWise.user.service.security;
+
+import com.bookWise.user.service.config.JwtProperties;
+import com.bookWise.user.service.metrics.AuthMetrics;
+import com.bookWise.user.service.model.entity.User;
+import com.bookWise.user.service.repository.UserAuthRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de uma requisição rejeitada pelo filtro de autenticação, do cabeçalho até o corpo da
+ * resposta 401, para cada motivo comum em tráfego de ataque. Inclui a criação da requisição e
+ * da resposta simuladas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-jmh.xml")
+public class TokenRejectionBenchmark {
+
+	private JwtAuthenticationFilter filter;
+	private String tamperedToken;
+
+	@Setup
+	public void setup() {
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setSecretKey("yrnt4BE6yc21XfQidT6ooRvjzzif2k0CdCdPiX4Qors9XhREarz0nq4nHh8tUwsO");
+
+		UserAuthRepository userAuthRepository = (UserAuthRepository) Proxy.newProxyInstance(
+				UserAuthRepository.class.getClassLoader(),
+				new Class<?>[]{UserAuthRepository.class},
+				(proxy, method, args) -> "save".equals(method.getName()) ? args[0] : null);
+
+		AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+		JwtProvider jwtProvider = new JwtProvider(jwtProperties, userAuthRepository, authMetrics);
+		jwtProvider.init();
+
+		User user = new User();
+		user.setId(UUID.randomUUID());
+		user.setEmail("benchmark@bookwise.com");
+		String token = jwtProvider.generateAccessToken(user);
+		tamperedToken = token.substring(0, token.length() - 4) + "AAAA";
+
+		VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtProvider, "authenticationTokens",
+				10_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+		filter = new JwtAuthenticationFilter(verifiedTokenCache, null, authMetrics, new PublicRoutes());
+	}
+
+	@Benchmark
+	public MockHttpServletResponse missingToken() throws Exception {
+		return reject(null);
+	}
+
+	@Benchmark
+	public MockHttpServletResponse malformedToken() throws Exception {
+		return reject("Bearer a.b");
+	}
+
+	@Benchmark
+	public MockHttpServletResponse invalidSignature() throws Exception {
+		return reject("Bearer " + tamperedToken);
+	}
+
+	private MockHttpServletResponse reject(String authorization) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+		request.setContextPath("/api/v1");
+		if (authorization != null) {
+			request.addHeader("Authorization", authorization);
+		}
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+}
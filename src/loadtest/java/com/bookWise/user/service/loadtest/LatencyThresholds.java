@@ -0,0 +1,68 @@
+package com.bookWise.user.service.loadtest;
+
+import com.bookWise.user.service.loadtest.LoadTestReport.OperationResult;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Limites do modo {@code --gate}. Chaves: {@code <operação>.p50|p99|p999} em milissegundos,
+ * {@code error-rate.max} (fração) e {@code throughput.min-ratio} (vazão obtida sobre a taxa alvo).
+ * Chaves ausentes não são verificadas.
+ */
+final class LatencyThresholds {
+
+	private final Properties properties;
+
+	private LatencyThresholds(Properties properties) {
+		this.properties = properties;
+	}
+
+	static LatencyThresholds load(String location) throws IOException {
+		Resource resource = new DefaultResourceLoader().getResource(location);
+		if (!resource.exists()) {
+			throw new IllegalArgumentException("Arquivo de limites não encontrado: " + location);
+		}
+
+		Properties properties = new Properties();
+		try (InputStream in = resource.getInputStream()) {
+			properties.load(in);
+		}
+		return new LatencyThresholds(properties);
+	}
+
+	List<String> check(LoadTestReport report) {
+		List<String> violations = new ArrayList<>();
+
+		for (OperationResult result : report.operations()) {
+			String operation = result.operation().label();
+			checkMax(violations, operation + ".p50", result.p50Millis(), "ms");
+			checkMax(violations, operation + ".p99", result.p99Millis(), "ms");
+			checkMax(violations, operation + ".p999", result.p999Millis(), "ms");
+		}
+		checkMax(violations, "error-rate.max", report.errorRate(), "");
+
+		String minRatio = properties.getProperty("throughput.min-ratio");
+		if (minRatio != null) {
+			double ratio = report.throughput() / report.targetRate();
+			if (ratio < Double.parseDouble(minRatio)) {
+				violations.add(String.format(Locale.ROOT, "throughput.min-ratio: %.3f < %s", ratio, minRatio));
+			}
+		}
+
+		return violations;
+	}
+
+	private void checkMax(List<String> violations, String key, double value, String unit) {
+		String limit = properties.getProperty(key);
+		if (limit != null && value > Double.parseDouble(limit)) {
+			violations.add(String.format(Locale.ROOT, "%s: %.3f%s > %s%s", key, value, unit, limit, unit));
+		}
+	}
+}
@@ -0,0 +1,253 @@
+package com.bookWise.user.service.loadtest;
+
+import com.bookWise.user.service.loadtest.UserPool.Account;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga em modelo aberto: as chegadas seguem um processo de Poisson na taxa
+ * configurada, independentemente de quantas requisições ainda estão em andamento, e cada
+ * requisição roda numa virtual thread. A latência é medida a partir do instante previsto da
+ * chegada, não do envio, para não esconder filas (coordinated omission).
+ */
+final class LoadGenerator {
+	private static final String PASSWORD = "loadtest-password";
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+	private final URI baseUri;
+	private final LoadTestOptions options;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final UserPool users = new UserPool();
+	private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+	private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+	private final LongAdder dropped = new LongAdder();
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final HttpClient httpClient;
+
+	LoadGenerator(URI baseUri, LoadTestOptions options) {
+		this.baseUri = baseUri;
+		this.options = options;
+		this.httpClient = HttpClient.newBuilder()
+				.connectTimeout(Duration.ofSeconds(5))
+				.version(HttpClient.Version.HTTP_1_1)
+				.build();
+
+		for (Operation operation : Operation.values()) {
+			recorders.put(operation, new Recorder(3));
+			errors.put(operation, new LongAdder());
+		}
+	}
+
+	/**
+	 * Cadastra e autentica as contas iniciais, fora da medição.
+	 */
+	void seed() throws Exception {
+		long start = System.nanoTime();
+		for (int i = 0; i < options.users(); i++) {
+			if (!register() || !login(users.randomRegistered())) {
+				throw new IllegalStateException("Falha ao cadastrar as contas iniciais do teste de carga");
+			}
+		}
+		System.out.printf("%d contas iniciais criadas em %d ms%n", options.users(), (System.nanoTime() - start) / 1_000_000);
+	}
+
+	LoadTestReport run() throws InterruptedException {
+		Operation[] schedule = weightedOperations();
+		Random random = new Random(options.seed());
+		Semaphore inFlight = new Semaphore(options.maxInFlight());
+		double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+
+		long start = System.nanoTime();
+		long measurementStart = start + options.warmup().toNanos();
+		long end = measurementStart + options.duration().toNanos();
+		boolean measuring = options.warmup().isZero();
+		LoadTestReport.GcActivity gcAtStart = LoadTestReport.GcActivity.sample();
+		System.out.printf("Aquecimento por %d s a %.1f req/s%n", options.warmup().toSeconds(), options.rate());
+
+		long next = start;
+		while (next < end) {
+			long now;
+			while ((now = System.nanoTime()) < next) {
+				LockSupport.parkNanos(next - now);
+			}
+
+			if (!measuring && next >= measurementStart) {
+				resetMeasurements();
+				gcAtStart = LoadTestReport.GcActivity.sample();
+				measuring = true;
+				System.out.printf("Medindo por %d s%n", options.duration().toSeconds());
+			}
+
+			Operation operation = schedule[random.nextInt(schedule.length)];
+			long intendedStart = next;
+			if (inFlight.tryAcquire()) {
+				executor.execute(() -> {
+					try {
+						execute(operation, intendedStart);
+					} finally {
+						inFlight.release();
+					}
+				});
+			} else {
+				// acima do limite de requisições em andamento o serviço já não acompanha a taxa
+				dropped.increment();
+				errors.get(operation).increment();
+			}
+
+			// intervalo exponencial: chegadas de Poisson
+			next += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+		}
+
+		executor.shutdown();
+		if (!executor.awaitTermination(REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+			System.out.println("Requisições ainda em andamento ao fim do teste foram descartadas");
+			executor.shutdownNow();
+		}
+		LoadTestReport.GcActivity gc = LoadTestReport.GcActivity.sample().since(gcAtStart);
+
+		List<LoadTestReport.OperationResult> results = new ArrayList<>();
+		for (Operation operation : Operation.values()) {
+			Histogram histogram = recorders.get(operation).getIntervalHistogram();
+			results.add(LoadTestReport.OperationResult.of(operation, histogram, errors.get(operation).sum(),
+					options.duration()));
+		}
+		return new LoadTestReport(options.rate(), options.duration(), dropped.sum(), results, gc);
+	}
+
+	private void resetMeasurements() {
+		for (Operation operation : Operation.values()) {
+			recorders.get(operation).reset();
+			errors.get(operation).reset();
+		}
+		dropped.reset();
+	}
+
+	private Operation[] weightedOperations() {
+		List<Operation> schedule = new ArrayList<>();
+		options.mix().forEach((operation, weight) -> {
+			for (int i = 0; i < weight; i++) {
+				schedule.add(operation);
+			}
+		});
+		return schedule.toArray(Operation[]::new);
+	}
+
+	private void execute(Operation operation, long intendedStart) {
+		boolean success;
+		try {
+			success = switch (operation) {
+				case REGISTER -> register();
+				case LOGIN -> login(users.randomRegistered());
+				case PROFILE -> profile(users.randomAuthenticated());
+				case REFRESH -> refresh(users.randomAuthenticated());
+			};
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			success = false;
+		} catch (Exception e) {
+			success = false;
+		}
+
+		recorders.get(operation).recordValue(System.nanoTime() - intendedStart);
+		if (!success) {
+			errors.get(operation).increment();
+		}
+	}
+
+	private boolean register() throws IOException, InterruptedException {
+		String email = "lt-" + UUID.randomUUID() + "@loadtest.local";
+		String body = objectMapper.writeValueAsString(Map.of("email", email, "password", PASSWORD, "name", "Load Test"));
+
+		HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/users"))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(body)));
+		if (response.statusCode() != 201) {
+			return false;
+		}
+
+		UUID id = UUID.fromString(objectMapper.readTree(response.body()).get("id").asText());
+		users.addRegistered(new Account(id, email, PASSWORD));
+		return true;
+	}
+
+	private boolean login(Account account) throws IOException, InterruptedException {
+		if (account == null) {
+			return false;
+		}
+		String body = objectMapper.writeValueAsString(Map.of("email", account.email, "password", account.password));
+
+		HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/auth/login"))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(body)));
+		if (response.statusCode() != 200) {
+			return false;
+		}
+
+		updateTokens(account, response);
+		users.addAuthenticated(account);
+		return true;
+	}
+
+	private boolean profile(Account account) throws IOException, InterruptedException {
+		if (account == null) {
+			return false;
+		}
+
+		HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/users/" + account.id))
+				.header("Authorization", "Bearer " + account.accessToken)
+				.GET());
+		return response.statusCode() == 200;
+	}
+
+	private boolean refresh(Account account) throws IOException, InterruptedException {
+		if (account == null) {
+			return false;
+		}
+
+		String refreshToken = URLEncoder.encode(account.refreshToken, StandardCharsets.UTF_8);
+		HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/auth/refresh?refreshToken=" + refreshToken))
+				.POST(HttpRequest.BodyPublishers.noBody()));
+		if (response.statusCode() != 200) {
+			return false;
+		}
+
+		updateTokens(account, response);
+		return true;
+	}
+
+	private void updateTokens(Account account, HttpResponse<String> response) throws IOException {
+		JsonNode tokens = objectMapper.readTree(response.body());
+		account.updateTokens(tokens.get("accessToken").asText(), tokens.get("refreshToken").asText());
+	}
+
+	private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+		return httpClient.send(request.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+	private URI uri(String path) {
+		return URI.create(baseUri + path);
+	}
+}
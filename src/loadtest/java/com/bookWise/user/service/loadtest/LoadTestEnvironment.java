@@ -0,0 +1,140 @@
+package com.bookWise.user.service.loadtest;
+
+import com.bookWise.user.service.UserServiceApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.apache.qpid.server.SystemLauncher;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sobe a aplicação para o teste de carga. Postgres e broker são os informados nas opções ou,
+ * na falta deles, stand-ins embarcados: Postgres do zonky e Qpid Broker-J em memória
+ * (AMQP 0-9-1, o mesmo protocolo do RabbitMQ), configurado para ignorar argumentos de fila
+ * que não conhece, como os de dead-letter do RabbitMQ.
+ */
+final class LoadTestEnvironment implements AutoCloseable {
+
+	private EmbeddedPostgres postgres;
+	private SystemLauncher broker;
+	private Path brokerWorkDirectory;
+	private ConfigurableApplicationContext application;
+
+	private LoadTestEnvironment() {
+	}
+
+	static LoadTestEnvironment start(LoadTestOptions options) throws Exception {
+		LoadTestEnvironment environment = new LoadTestEnvironment();
+		try {
+			environment.startApplication(options);
+			return environment;
+		} catch (Exception e) {
+			environment.close();
+			throw e;
+		}
+	}
+
+	private void startApplication(LoadTestOptions options) throws Exception {
+		Map<String, Object> properties = new HashMap<>();
+
+		if (options.datasourceUrl() != null) {
+			properties.put("spring.datasource.url", options.datasourceUrl());
+		} else {
+			postgres = EmbeddedPostgres.builder()
+					.setServerConfig("max_connections", "300")
+					.start();
+			properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+			System.out.println("Postgres embarcado na porta " + postgres.getPort());
+		}
+		properties.put("spring.datasource.username", options.datasourceUsername());
+		properties.put("spring.datasource.password", options.datasourcePassword());
+
+		int rabbitPort = options.rabbitPort() != null ? options.rabbitPort() : startBroker();
+		properties.put("spring.rabbitmq.host", options.rabbitHost());
+		properties.put("spring.rabbitmq.port", rabbitPort);
+
+		if (options.profiles() != null) {
+			properties.put("spring.profiles.active", options.profiles());
+			System.out.println("Profiles ativos: " + options.profiles());
+		}
+
+		// o log da aplicação vai para arquivo (com o mesmo custo de produção) e o console fica para o relatório
+		properties.put("server.port", 0);
+		properties.put("logging.file.name", options.reportDirectory().resolve("application.log").toString());
+		properties.put("logging.threshold.console", "WARN");
+
+		// como argumentos de linha de comando, para prevalecer sobre o application.yaml
+		String[] args = properties.entrySet().stream()
+				.map(property -> "--" + property.getKey() + "=" + property.getValue())
+				.toArray(String[]::new);
+		application = new SpringApplicationBuilder(UserServiceApplication.class).run(args);
+	}
+
+	private int startBroker() throws Exception {
+		int port = freePort();
+		brokerWorkDirectory = Files.createTempDirectory("loadtest-qpid");
+
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put("type", "Memory");
+		attributes.put("initialConfigurationLocation",
+				LoadTestEnvironment.class.getResource("/loadtest-qpid.json").toExternalForm());
+		attributes.put("startupLoggedToSystemOut", false);
+		attributes.put("context", Map.of(
+				"qpid.amqp_port", String.valueOf(port),
+				"qpid.work_dir", brokerWorkDirectory.toString()));
+
+		broker = new SystemLauncher();
+		broker.startup(attributes);
+		System.out.println("Broker Qpid embarcado na porta " + port);
+		return port;
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	ConfigurableApplicationContext application() {
+		return application;
+	}
+
+	URI baseUri() {
+		int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+		String contextPath = application.getEnvironment().getProperty("server.servlet.context-path", "");
+		return URI.create("http://localhost:" + port + contextPath);
+	}
+
+	@Override
+	public void close() {
+		if (application != null) {
+			application.close();
+		}
+		if (broker != null) {
+			broker.shutdown();
+		}
+		if (postgres != null) {
+			try {
+				postgres.close();
+			} catch (IOException e) {
+				System.err.println("Erro ao parar o Postgres embarcado: " + e.getMessage());
+			}
+		}
+		if (brokerWorkDirectory != null) {
+			try {
+				FileSystemUtils.deleteRecursively(brokerWorkDirectory);
+			} catch (IOException e) {
+				System.err.println("Erro ao remover o diretório do broker: " + e.getMessage());
+			}
+		}
+	}
+}
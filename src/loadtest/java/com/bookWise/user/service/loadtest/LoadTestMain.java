@@ -0,0 +1,55 @@
+package com.bookWise.user.service.loadtest;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Teste de carga ponta a ponta do fluxo cadastro → login → GET autenticado → refresh.
+ * Sobe a {@code UserServiceApplication} (ver {@link LoadTestEnvironment}), cria as contas
+ * iniciais, aquece, mede e imprime p50/p99/p99.9 e vazão por operação. Com {@code --gate},
+ * compara o resultado com os limites de {@link LatencyThresholds} e termina com código 1 se
+ * algum foi ultrapassado, o que falha o build do profile {@code loadtest}.
+ */
+public final class LoadTestMain {
+
+	private LoadTestMain() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadTestOptions options = LoadTestOptions.parse(args);
+		int exitCode;
+
+		// até o Spring configurar o logging vale o padrão do logback (DEBUG no console)
+		((LoggerContext) LoggerFactory.getILoggerFactory()).getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+
+		try (LoadTestEnvironment environment = LoadTestEnvironment.start(options)) {
+			LoadGenerator generator = new LoadGenerator(environment.baseUri(), options);
+			generator.seed();
+
+			LoadTestReport report = generator.run();
+			report.print(System.out);
+			report.write(options.reportDirectory());
+
+			exitCode = options.gate() ? gate(report, options) : 0;
+		}
+
+		// o broker embarcado deixa threads não-daemon
+		System.exit(exitCode);
+	}
+
+	private static int gate(LoadTestReport report, LoadTestOptions options) throws Exception {
+		List<String> violations = LatencyThresholds.load(options.thresholds()).check(report);
+		if (violations.isEmpty()) {
+			System.out.println("Limites respeitados (" + options.thresholds() + ")");
+			return 0;
+		}
+
+		System.out.println("Regressão de desempenho, limites ultrapassados (" + options.thresholds() + "):");
+		violations.forEach(violation -> System.out.println("  " + violation));
+		return 1;
+	}
+}
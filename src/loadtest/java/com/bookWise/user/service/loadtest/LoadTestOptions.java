@@ -0,0 +1,97 @@
+package com.bookWise.user.service.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Opções do teste de carga, passadas como {@code --chave=valor} (ver o profile {@code loadtest}
+ * no pom.xml). Sem {@code --datasource-url}/{@code --rabbit-port} sobem Postgres e broker
+ * embarcados. {@code --profiles} ativa profiles da aplicação, por exemplo
+ * {@code --profiles=virtual-threads} para comparar com o runtime padrão.
+ */
+record LoadTestOptions(
+		double rate,
+		Duration warmup,
+		Duration duration,
+		Map<Operation, Integer> mix,
+		int users,
+		int maxInFlight,
+		long seed,
+		String datasourceUrl,
+		String datasourceUsername,
+		String datasourcePassword,
+		String rabbitHost,
+		Integer rabbitPort,
+		String profiles,
+		Path reportDirectory,
+		String thresholds,
+		boolean gate) {
+
+	static LoadTestOptions parse(String[] args) {
+		Map<String, String> values = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--")) {
+				throw new IllegalArgumentException("Argumento inválido: " + arg);
+			}
+			int separator = arg.indexOf('=');
+			if (separator < 0) {
+				values.put(arg.substring(2), "true");
+			} else {
+				values.put(arg.substring(2, separator), arg.substring(separator + 1));
+			}
+		}
+
+		LoadTestOptions options = new LoadTestOptions(
+				Double.parseDouble(values.getOrDefault("rate", "20")),
+				DurationStyle.detectAndParse(values.getOrDefault("warmup", "20s")),
+				DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+				parseMix(values.getOrDefault("mix", "register:1,login:2,profile:6,refresh:1")),
+				Integer.parseInt(values.getOrDefault("users", "200")),
+				Integer.parseInt(values.getOrDefault("max-in-flight", "2000")),
+				Long.parseLong(values.getOrDefault("seed", "42")),
+				values.get("datasource-url"),
+				values.getOrDefault("datasource-username", "postgres"),
+				values.getOrDefault("datasource-password", "postgres"),
+				values.getOrDefault("rabbit-host", "localhost"),
+				values.containsKey("rabbit-port") ? Integer.valueOf(values.get("rabbit-port")) : null,
+				values.get("profiles"),
+				Path.of(values.getOrDefault("report-dir", "target/loadtest")),
+				values.getOrDefault("thresholds", "classpath:loadtest-thresholds.properties"),
+				Boolean.parseBoolean(values.getOrDefault("gate", "false")));
+
+		if (options.rate() <= 0) {
+			throw new IllegalArgumentException("--rate deve ser positivo");
+		}
+		if (options.duration().isZero() || options.duration().isNegative()) {
+			throw new IllegalArgumentException("--duration deve ser positiva");
+		}
+		if (options.users() < 1) {
+			throw new IllegalArgumentException("--users deve ser pelo menos 1");
+		}
+		return options;
+	}
+
+	private static Map<Operation, Integer> parseMix(String value) {
+		Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+		for (String entry : value.split(",")) {
+			String[] parts = entry.split(":");
+			if (parts.length != 2) {
+				throw new IllegalArgumentException("Entrada inválida em --mix: " + entry);
+			}
+			int weight = Integer.parseInt(parts[1].trim());
+			if (weight < 0) {
+				throw new IllegalArgumentException("Peso negativo em --mix: " + entry);
+			}
+			mix.put(Operation.fromName(parts[0].trim()), weight);
+		}
+		if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+			throw new IllegalArgumentException("--mix precisa de ao menos um peso positivo");
+		}
+		return mix;
+	}
+}
@@ -0,0 +1,123 @@
+package com.bookWise.user.service.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Resultado da fase de medição: vazão e percentis de latência por operação, e a atividade do GC
+ * no período.
+ */
+record LoadTestReport(double targetRate, Duration duration, long dropped, List<OperationResult> operations,
+		GcActivity gc) {
+	private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+	long totalRequests() {
+		return operations.stream().mapToLong(OperationResult::count).sum();
+	}
+
+	long totalErrors() {
+		return operations.stream().mapToLong(OperationResult::errors).sum();
+	}
+
+	double throughput() {
+		return totalRequests() / (duration.toNanos() / 1e9);
+	}
+
+	double errorRate() {
+		long total = totalRequests() + dropped;
+		return total == 0 ? 0 : (double) totalErrors() / total;
+	}
+
+	void print(PrintStream out) {
+		out.printf(Locale.ROOT, "%n%-10s %12s %8s %10s %10s %10s %10s %10s%n",
+				"operação", "requisições", "erros", "req/s", "p50 (ms)", "p99 (ms)", "p99.9 (ms)", "máx (ms)");
+		for (OperationResult result : operations) {
+			out.printf(Locale.ROOT, "%-10s %12d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+					result.operation().label(), result.count(), result.errors(), result.throughput(),
+					result.p50Millis(), result.p99Millis(), result.p999Millis(), result.maxMillis());
+		}
+		out.printf(Locale.ROOT, "%ntotal: %d requisições em %d s, %.1f req/s (alvo %.1f), %d erros (%.2f%%), %d descartadas%n",
+				totalRequests(), duration.toSeconds(), throughput(), targetRate, totalErrors(), errorRate() * 100, dropped);
+		// aplicação e gerador de carga dividem a JVM: o valor absoluto inclui o cliente, a comparação entre execuções vale
+		out.printf(Locale.ROOT, "gc: %.1f MB alocados (%.1f KB/requisição), %d coletas, %d ms em pausa%n",
+				gc.allocatedBytes() / 1048576.0, totalRequests() == 0 ? 0 : gc.allocatedBytes() / 1024.0 / totalRequests(),
+				gc.collections(), gc.collectionMillis());
+	}
+
+	/**
+	 * Grava o resumo e a distribuição completa de cada operação (formato .hgrm do HdrHistogram,
+	 * em milissegundos), para comparar execuções ou plotar.
+	 */
+	void write(Path directory) throws IOException {
+		Files.createDirectories(directory);
+		try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("report.txt")), true, "UTF-8")) {
+			print(out);
+		}
+		for (OperationResult result : operations) {
+			Path file = directory.resolve(result.operation().label() + ".hgrm");
+			try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, "UTF-8")) {
+				result.histogram().outputPercentileDistribution(out, NANOS_PER_MILLI);
+			}
+		}
+	}
+
+	/**
+	 * Bytes alocados por todas as threads da JVM, coletas e tempo de coleta; {@link #since} dá a
+	 * diferença entre duas amostras.
+	 */
+	record GcActivity(long allocatedBytes, long collections, long collectionMillis) {
+
+		static GcActivity sample() {
+			long collections = 0;
+			long collectionMillis = 0;
+			for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+				collections += Math.max(0, collector.getCollectionCount());
+				collectionMillis += Math.max(0, collector.getCollectionTime());
+			}
+			long allocated = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+					? threads.getTotalThreadAllocatedBytes() : -1;
+			return new GcActivity(allocated, collections, collectionMillis);
+		}
+
+		GcActivity since(GcActivity start) {
+			return new GcActivity(allocatedBytes - start.allocatedBytes, collections - start.collections,
+					collectionMillis - start.collectionMillis);
+		}
+	}
+
+	record OperationResult(Operation operation, Histogram histogram, long errors, double throughput) {
+
+		static OperationResult of(Operation operation, Histogram histogram, long errors, Duration duration) {
+			return new OperationResult(operation, histogram, errors, histogram.getTotalCount() / (duration.toNanos() / 1e9));
+		}
+
+		long count() {
+			return histogram.getTotalCount();
+		}
+
+		double p50Millis() {
+			return histogram.getValueAtPercentile(50) / NANOS_PER_MILLI;
+		}
+
+		double p99Millis() {
+			return histogram.getValueAtPercentile(99) / NANOS_PER_MILLI;
+		}
+
+		double p999Millis() {
+			return histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI;
+		}
+
+		double maxMillis() {
+			return histogram.getMaxValue() / NANOS_PER_MILLI;
+		}
+	}
+}
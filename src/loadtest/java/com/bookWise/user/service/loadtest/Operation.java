@@ -0,0 +1,23 @@
+package com.bookWise.user.service.loadtest;
+
+import java.util.Locale;
+
+/**
+ * Operações do fluxo medido: cadastro → login → GET autenticado → refresh.
+ */
+enum Operation {
+	REGISTER, LOGIN, PROFILE, REFRESH;
+
+	String label() {
+		return name().toLowerCase(Locale.ROOT);
+	}
+
+	static Operation fromName(String name) {
+		for (Operation operation : values()) {
+			if (operation.label().equals(name)) {
+				return operation;
+			}
+		}
+		throw new IllegalArgumentException("Operação desconhecida: " + name);
+	}
+}
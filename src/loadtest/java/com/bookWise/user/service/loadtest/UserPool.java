@@ -0,0 +1,63 @@
+package com.bookWise.user.service.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Contas criadas durante o teste: {@code registered} alimenta o login e {@code authenticated}
+ * (contas com tokens) alimenta o GET autenticado e o refresh.
+ */
+final class UserPool {
+
+	private final List<Account> registered = new ArrayList<>();
+	private final List<Account> authenticated = new ArrayList<>();
+
+	synchronized void addRegistered(Account account) {
+		registered.add(account);
+	}
+
+	synchronized void addAuthenticated(Account account) {
+		if (!account.authenticated) {
+			account.authenticated = true;
+			authenticated.add(account);
+		}
+	}
+
+	synchronized Account randomRegistered() {
+		return random(registered);
+	}
+
+	synchronized Account randomAuthenticated() {
+		return random(authenticated);
+	}
+
+	synchronized int size() {
+		return registered.size();
+	}
+
+	private static Account random(List<Account> accounts) {
+		return accounts.isEmpty() ? null : accounts.get(ThreadLocalRandom.current().nextInt(accounts.size()));
+	}
+
+	static final class Account {
+		final UUID id;
+		final String email;
+		final String password;
+		volatile String accessToken;
+		volatile String refreshToken;
+		private boolean authenticated;
+
+		Account(UUID id, String email, String password) {
+			this.id = id;
+			this.email = email;
+			this.password = password;
+		}
+
+		void updateTokens(String accessToken, String refreshToken) {
+			this.accessToken = accessToken;
+			this.refreshToken = refreshToken;
+		}
+	}
+}
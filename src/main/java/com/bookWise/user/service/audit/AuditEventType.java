@@ -0,0 +1,40 @@
+package com.bookWise.user.service.audit;
+
+/**
+ * Tipos de evento do log de auditoria. O código é o byte gravado no registro e não pode mudar
+ * nem ser reaproveitado, senão segmentos antigos passam a ser lidos com o tipo errado.
+ */
+public enum AuditEventType {
+    LOGIN_SUCCESS(1),
+    LOGIN_FAILURE(2),
+    TOKEN_REFRESH(3),
+    TOKEN_REFRESH_REJECTED(4),
+    PASSWORD_CHANGE(5),
+    PASSWORD_CHANGE_REJECTED(6),
+    LOGOUT(7);
+
+    private static final AuditEventType[] BY_CODE = new AuditEventType[8];
+
+    static {
+        for (AuditEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+
+    AuditEventType(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    /**
+     * @return o tipo do código, ou {@code null} se o código não for conhecido
+     */
+    public static AuditEventType fromCode(byte code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
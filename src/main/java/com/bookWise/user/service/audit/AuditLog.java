@@ -0,0 +1,98 @@
+package com.bookWise.user.service.audit;
+
+import com.bookWise.user.service.config.AuditLogProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * Trilha de auditoria de segurança: logins, renovações de token, trocas de senha e logouts,
+ * gravados em segmentos mapeados em memória por um {@link AuditLogWriter}, fora do banco. O
+ * registro não bloqueia a requisição; o que for descartado com a fila cheia aparece em
+ * {@code audit.events{outcome=dropped}}. Os segmentos são lidos com {@link AuditLogReader}.
+ */
+@Slf4j
+@Component
+public class AuditLog {
+    private final AuditLogWriter writer;
+
+    public AuditLog(AuditLogProperties properties, MeterRegistry meterRegistry) throws IOException {
+        if (!properties.isEnabled()) {
+            log.info("Log de auditoria desativado (audit.log.enabled=false)");
+            this.writer = null;
+            return;
+        }
+
+        this.writer = new AuditLogWriter(properties);
+        FunctionCounter.builder("audit.events", writer, AuditLogWriter::getWrittenCount)
+                .description("Eventos do log de auditoria")
+                .tag("outcome", "written")
+                .register(meterRegistry);
+        FunctionCounter.builder("audit.events", writer, AuditLogWriter::getDroppedCount)
+                .description("Eventos do log de auditoria")
+                .tag("outcome", "dropped")
+                .register(meterRegistry);
+        Gauge.builder("audit.queue.size", writer, AuditLogWriter::getQueueSize)
+                .description("Eventos aguardando gravação no log de auditoria")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra o evento com o endereço do cliente da requisição atual, se houver.
+     *
+     * @param userId  id do usuário, quando conhecido
+     * @param subject e-mail informado ou do usuário autenticado
+     */
+    public void record(AuditEventType type, UUID userId, String subject) {
+        if (writer != null) {
+            writer.append(AuditRecord.of(type, userId, clientAddress(), subject));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    private static InetAddress clientAddress() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+
+        String address = attributes.getRequest().getRemoteAddr();
+        if (address == null || !isLiteral(address)) {
+            return null;
+        }
+
+        try {
+            // com um IP literal não há consulta de DNS
+            return InetAddress.getByName(address);
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    // IPv4 só com dígitos e pontos; IPv6 com ':' e dígitos hexadecimais
+    private static boolean isLiteral(String address) {
+        boolean ipv6 = address.indexOf(':') >= 0;
+        for (int i = 0; i < address.length(); i++) {
+            char c = address.charAt(i);
+            if (c != '.' && c != ':' && Character.digit(c, ipv6 ? 16 : 10) < 0) {
+                return false;
+            }
+        }
+        return !address.isEmpty();
+    }
+}
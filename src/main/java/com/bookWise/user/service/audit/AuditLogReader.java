@@ -0,0 +1,143 @@
+package com.bookWise.user.service.audit;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Lê os segmentos do log de auditoria em ordem e exporta os registros como JSON, um por linha.
+ * Pode rodar com a aplicação no ar: um registro sendo gravado no momento da leitura ainda não
+ * passa no CRC e encerra a leitura do segmento. Lacunas de sequência entre segmentos (um
+ * segmento removido, por exemplo) são avisadas na saída de erro.
+ * <pre>
+ * java -cp target/classes com.bookWise.user.service.audit.AuditLogReader audit \
+ *      --from=2026-10-01T00:00:00Z --type=LOGIN_FAILURE
+ * java -cp user-service.jar -Dloader.main=com.bookWise.user.service.audit.AuditLogReader \
+ *      org.springframework.boot.loader.launch.PropertiesLauncher audit --subject=fulano@bookwise.com
+ * </pre>
+ */
+public final class AuditLogReader {
+
+    private AuditLogReader() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            usage();
+        }
+
+        Predicate<AuditRecord> filter = record -> true;
+        for (int i = 1; i < args.length; i++) {
+            String[] option = args[i].split("=", 2);
+            if (option.length != 2) {
+                usage();
+            }
+
+            try {
+                filter = filter.and(switch (option[0]) {
+                    case "--from" -> {
+                        long from = Instant.parse(option[1]).toEpochMilli();
+                        yield record -> record.timestamp() >= from;
+                    }
+                    case "--to" -> {
+                        long to = Instant.parse(option[1]).toEpochMilli();
+                        yield record -> record.timestamp() < to;
+                    }
+                    case "--type" -> {
+                        AuditEventType type = AuditEventType.valueOf(option[1]);
+                        yield record -> record.type() == type;
+                    }
+                    case "--subject" -> record -> option[1].equalsIgnoreCase(record.subject());
+                    default -> {
+                        usage();
+                        yield null;
+                    }
+                });
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                System.err.println("Opção inválida: " + args[i]);
+                System.exit(2);
+            }
+        }
+
+        Predicate<AuditRecord> selected = filter;
+        PrintStream out = System.out;
+        long[] expected = {0};
+        long total = scan(Path.of(args[0]), record -> {
+            if (expected[0] != 0 && record.sequence() != expected[0]) {
+                System.err.printf("Lacuna na sequência: esperado %d, encontrado %d%n", expected[0], record.sequence());
+            }
+            expected[0] = record.sequence() + 1;
+
+            if (selected.test(record)) {
+                out.println(toJson(record));
+            }
+        });
+        out.flush();
+        System.err.printf("%d registros lidos%n", total);
+    }
+
+    /**
+     * Entrega os registros válidos de todos os segmentos do diretório, em ordem de sequência.
+     *
+     * @return quantidade de registros lidos
+     */
+    public static long scan(Path directory, Consumer<AuditRecord> consumer) throws IOException {
+        long total = 0;
+        for (Path path : AuditSegment.list(directory)) {
+            try (AuditSegment segment = AuditSegment.open(path, false)) {
+                for (int i = 0; i < segment.count(); i++) {
+                    consumer.accept(segment.read(i));
+                }
+                total += segment.count();
+            }
+        }
+        return total;
+    }
+
+    static String toJson(AuditRecord record) {
+        StringBuilder json = new StringBuilder(256)
+                .append("{\"seq\":").append(record.sequence())
+                .append(",\"time\":\"").append(Instant.ofEpochMilli(record.timestamp())).append('"')
+                .append(",\"type\":\"").append(record.type()).append('"');
+        if (record.userId() != null) {
+            json.append(",\"uid\":\"").append(record.userId()).append('"');
+        }
+        if (record.address() != null) {
+            json.append(",\"address\":\"").append(record.address().getHostAddress()).append('"');
+        }
+        if (record.subject() != null) {
+            json.append(",\"subject\":");
+            appendString(json, record.subject());
+        }
+        return json.append('}').toString();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    private static void usage() {
+        System.err.println("Uso: AuditLogReader <diretorio> [--from=<instante>] [--to=<instante>] "
+                + "[--type=<tipo>] [--subject=<e-mail>]");
+        System.exit(2);
+    }
+}
@@ -0,0 +1,194 @@
+package com.bookWise.user.service.audit;
+
+import com.bookWise.user.service.config.AuditLogProperties;
+import com.bookWise.user.service.config.AuditLogProperties.FsyncPolicy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Escritor único do log de auditoria. Os produtores só enfileiram ({@link #append} não
+ * bloqueia: com a fila cheia o evento é descartado e contado); uma thread retira os eventos em
+ * lotes, grava cada um no segmento mapeado com a próxima sequência e abre um novo segmento
+ * quando o atual enche. Depois de cada lote aplica a {@link FsyncPolicy}.
+ * <p>
+ * Ao abrir, continua o último segmento do diretório a partir do primeiro espaço vazio, então a
+ * sequência segue de onde parou mesmo após uma queda.
+ */
+@Slf4j
+public class AuditLogWriter implements AutoCloseable {
+    private static final int BATCH_SIZE = 1024;
+    private static final long MAX_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Path directory;
+    private final long segmentSize;
+    private final FsyncPolicy fsync;
+    private final long fsyncIntervalNanos;
+    private final BlockingQueue<AuditRecord> queue;
+    private final List<AuditRecord> batch = new ArrayList<>(BATCH_SIZE);
+    private final LongAdder dropped = new LongAdder();
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile long written;   // só a thread escritora atualiza
+
+    // estado da thread escritora
+    private AuditSegment segment;
+    private long nextSequence;
+    private long lastFsync = System.nanoTime();
+
+    public AuditLogWriter(AuditLogProperties properties) throws IOException {
+        this.directory = Path.of(properties.getDirectory());
+        this.segmentSize = properties.getSegmentSize().toBytes();
+        this.fsync = properties.getFsync();
+        this.fsyncIntervalNanos = properties.getFsyncInterval().toNanos();
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        Files.createDirectories(directory);
+        recover();
+
+        this.thread = Thread.ofPlatform().name("audit-log-writer").daemon().unstarted(this::run);
+        thread.start();
+    }
+
+    /**
+     * Enfileira o evento para gravação.
+     *
+     * @return {@code false} se o evento foi descartado (fila cheia ou escritor fechado)
+     */
+    public boolean append(AuditRecord event) {
+        if (!running || !queue.offer(event)) {
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public long getWrittenCount() {
+        return written;
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Grava o que estiver na fila, força o segmento atual para o disco e encerra a thread.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> segments = AuditSegment.list(directory);
+        if (segments.isEmpty()) {
+            nextSequence = 1;
+            return;
+        }
+
+        segment = AuditSegment.open(segments.getLast(), true);
+        nextSequence = segment.nextSequence();
+        log.info("Log de auditoria continuando em {} a partir da sequência {}", segment.path(), nextSequence);
+    }
+
+    private void run() {
+        long pollNanos = Math.min(MAX_POLL_NANOS, fsyncIntervalNanos);
+        while (running || !queue.isEmpty()) {
+            AuditRecord first;
+            try {
+                first = queue.poll(pollNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            if (first != null) {
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                write(batch);
+                batch.clear();
+            }
+
+            if (fsync == FsyncPolicy.BATCH
+                    || fsync == FsyncPolicy.INTERVAL && System.nanoTime() - lastFsync >= fsyncIntervalNanos) {
+                force();
+            }
+        }
+
+        closeSegment();
+    }
+
+    private void write(List<AuditRecord> events) {
+        for (int i = 0; i < events.size(); i++) {
+            if (segment == null || segment.isFull()) {
+                try {
+                    rotate();
+                } catch (IOException e) {
+                    // tenta de novo no próximo lote; o que estava neste é perdido
+                    dropped.add(events.size() - i);
+                    log.error("Falha ao abrir segmento do log de auditoria em {}: {}", directory, e.getMessage(), e);
+                    return;
+                }
+            }
+
+            segment.append(events.get(i));
+            nextSequence++;
+            written++;
+        }
+    }
+
+    private void rotate() throws IOException {
+        closeSegment();
+        segment = AuditSegment.create(directory, nextSequence, segmentSize);
+        log.debug("Novo segmento do log de auditoria: {}", segment.path());
+    }
+
+    private void force() {
+        lastFsync = System.nanoTime();
+        if (segment == null) {
+            return;
+        }
+
+        try {
+            segment.force();
+        } catch (UncheckedIOException e) {
+            log.error("Falha ao forçar o log de auditoria para o disco: {}", e.getMessage(), e);
+        }
+    }
+
+    private void closeSegment() {
+        if (segment == null) {
+            return;
+        }
+
+        force();
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("Falha ao fechar segmento do log de auditoria {}: {}", segment.path(), e.getMessage());
+        }
+        segment = null;
+    }
+}
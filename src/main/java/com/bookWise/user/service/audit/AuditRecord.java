@@ -0,0 +1,20 @@
+package com.bookWise.user.service.audit;
+
+import java.net.InetAddress;
+import java.util.UUID;
+
+/**
+ * Um evento do log de auditoria. A sequência é atribuída pelo escritor, na ordem de gravação;
+ * registros criados por {@link #of} ainda não têm sequência (zero).
+ *
+ * @param userId  id do usuário, quando conhecido
+ * @param address endereço do cliente, quando o evento veio de uma requisição
+ * @param subject e-mail informado ou do usuário autenticado, truncado no registro
+ */
+public record AuditRecord(long sequence, long timestamp, AuditEventType type, UUID userId,
+                          InetAddress address, String subject) {
+
+    public static AuditRecord of(AuditEventType type, UUID userId, InetAddress address, String subject) {
+        return new AuditRecord(0, System.currentTimeMillis(), type, userId, address, subject);
+    }
+}
@@ -0,0 +1,295 @@
+package com.bookWise.user.service.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Segmento do log de auditoria: um arquivo de tamanho fixo mapeado em memória, com um
+ * cabeçalho e registros de {@value #RECORD_SIZE} bytes. O nome traz a sequência do primeiro
+ * registro ({@code audit-00000000000000000001.seg}), então a ordem dos nomes é a ordem do log.
+ * <p>
+ * Layout do registro (big-endian):
+ * <pre>
+ *  0  int   CRC32C dos bytes 4..127
+ *  4  long  sequência
+ * 12  long  instante (epoch millis)
+ * 20  byte  tipo ({@link AuditEventType#code()})
+ * 21  byte  tamanho do endereço (0, 4 ou 16)
+ * 22  byte  tamanho do subject em bytes
+ * 23  byte  reservado
+ * 24  long  id do usuário, bits mais significativos
+ * 32  long  id do usuário, bits menos significativos
+ * 40  16B   endereço do cliente
+ * 56  72B   subject em UTF-8, truncado
+ * </pre>
+ * O fim dos registros é o primeiro espaço cujo CRC não confere ou cuja sequência não é a
+ * esperada: o arquivo nasce zerado, e um registro gravado pela metade (queda do processo, ou
+ * leitura concorrente com o escritor) não passa no CRC.
+ * <p>
+ * Não é thread-safe: cada instância é usada por uma única thread.
+ */
+final class AuditSegment implements Closeable {
+    static final int RECORD_SIZE = 128;
+    static final int HEADER_SIZE = RECORD_SIZE;
+
+    private static final int MAGIC = 0x42574155;   // "BWAU"
+    private static final short VERSION = 1;
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".seg";
+    private static final int ADDRESS_OFFSET = 40;
+    private static final int SUBJECT_OFFSET = 56;
+    private static final int MAX_SUBJECT_BYTES = RECORD_SIZE - SUBJECT_OFFSET;
+    private static final int PREALLOCATION_CHUNK = 1 << 20;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long firstSequence;
+    private final int capacity;
+    private final byte[] scratch = new byte[RECORD_SIZE];
+    private final ByteBuffer record = ByteBuffer.wrap(scratch);
+    private final CRC32C crc = new CRC32C();
+    private int count;
+    private int forced;
+
+    private AuditSegment(Path path, FileChannel channel, MappedByteBuffer buffer, long firstSequence) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.firstSequence = firstSequence;
+        this.capacity = (buffer.capacity() - HEADER_SIZE) / RECORD_SIZE;
+    }
+
+    /**
+     * Cria um segmento vazio. O arquivo é preenchido com zeros antes de ser mapeado, para que
+     * falta de espaço em disco apareça aqui como {@link IOException} e não como falha de
+     * página ao gravar no mapeamento; só é renomeado para {@code .seg} depois de completo.
+     */
+    static AuditSegment create(Path directory, long firstSequence, long size) throws IOException {
+        Path path = directory.resolve(fileName(firstSequence));
+        Path temporary = directory.resolve(fileName(firstSequence) + ".tmp");
+        int records = (int) Math.min((size - HEADER_SIZE) / RECORD_SIZE, (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE);
+        long length = HEADER_SIZE + (long) records * RECORD_SIZE;
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer zeros = ByteBuffer.allocate((int) Math.min(PREALLOCATION_CHUNK, length));
+            for (long written = 0; written < length; ) {
+                zeros.clear().limit((int) Math.min(zeros.capacity(), length - written));
+                written += channel.write(zeros, written);
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putShort(VERSION)
+                    .putShort((short) RECORD_SIZE)
+                    .putLong(firstSequence)
+                    .putLong(System.currentTimeMillis());
+            channel.write(header.clear(), 0);
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+
+        return open(path, true);
+    }
+
+    /**
+     * Abre um segmento existente e localiza o fim dos registros.
+     */
+    static AuditSegment open(Path path, boolean writable) throws IOException {
+        FileChannel channel = writable
+                ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < HEADER_SIZE + RECORD_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Segmento de auditoria com tamanho inválido: " + path);
+            }
+
+            MappedByteBuffer buffer = channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC || buffer.getShort(4) != VERSION || buffer.getShort(6) != RECORD_SIZE) {
+                throw new IOException("Cabeçalho de segmento de auditoria inválido: " + path);
+            }
+
+            long firstSequence = buffer.getLong(8);
+            if (firstSequence != firstSequence(path)) {
+                throw new IOException("Sequência do cabeçalho não corresponde ao nome do segmento: " + path);
+            }
+
+            AuditSegment segment = new AuditSegment(path, channel, buffer, firstSequence);
+            while (segment.count < segment.capacity && segment.read(segment.count) != null) {
+                segment.count++;
+            }
+            segment.forced = segment.count;
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Segmentos do diretório, na ordem do log. Um diretório inexistente não tem segmentos.
+     */
+    static List<Path> list(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static long firstSequence(Path path) throws IOException {
+        String name = path.getFileName().toString();
+        try {
+            return Long.parseLong(name, PREFIX.length(), name.length() - SUFFIX.length(), 10);
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new IOException("Nome de segmento de auditoria inválido: " + path, e);
+        }
+    }
+
+    private static String fileName(long firstSequence) {
+        return PREFIX + String.format("%020d", firstSequence) + SUFFIX;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int count() {
+        return count;
+    }
+
+    boolean isFull() {
+        return count == capacity;
+    }
+
+    long nextSequence() {
+        return firstSequence + count;
+    }
+
+    /**
+     * Grava o registro com a próxima sequência do segmento. O registro é montado fora do
+     * mapeamento e copiado de uma vez.
+     */
+    void append(AuditRecord event) {
+        Arrays.fill(scratch, (byte) 0);
+        record.putLong(4, nextSequence());
+        record.putLong(12, event.timestamp());
+        record.put(20, event.type().code());
+
+        if (event.address() != null) {
+            byte[] address = event.address().getAddress();
+            record.put(21, (byte) address.length);
+            record.put(ADDRESS_OFFSET, address);
+        }
+
+        if (event.subject() != null) {
+            byte[] subject = event.subject().getBytes(StandardCharsets.UTF_8);
+            int length = truncate(subject);
+            record.put(22, (byte) length);
+            record.put(SUBJECT_OFFSET, subject, 0, length);
+        }
+
+        if (event.userId() != null) {
+            record.putLong(24, event.userId().getMostSignificantBits());
+            record.putLong(32, event.userId().getLeastSignificantBits());
+        }
+
+        crc.reset();
+        crc.update(scratch, 4, RECORD_SIZE - 4);
+        record.putInt(0, (int) crc.getValue());
+        buffer.put(offset(count), scratch);
+        count++;
+    }
+
+    /**
+     * @return o registro na posição, ou {@code null} se o espaço estiver vazio ou inválido
+     */
+    AuditRecord read(int index) {
+        buffer.get(offset(index), scratch);
+        crc.reset();
+        crc.update(scratch, 4, RECORD_SIZE - 4);
+        long sequence = record.getLong(4);
+        if (record.getInt(0) != (int) crc.getValue() || sequence != firstSequence + index) {
+            return null;
+        }
+
+        long mostSignificant = record.getLong(24);
+        long leastSignificant = record.getLong(32);
+        UUID userId = mostSignificant == 0 && leastSignificant == 0 ? null : new UUID(mostSignificant, leastSignificant);
+        int subjectLength = record.get(22) & 0xFF;
+        String subject = subjectLength == 0 ? null
+                : new String(scratch, SUBJECT_OFFSET, Math.min(subjectLength, MAX_SUBJECT_BYTES), StandardCharsets.UTF_8);
+
+        return new AuditRecord(sequence, record.getLong(12), AuditEventType.fromCode(record.get(20)), userId,
+                address(record.get(21)), subject);
+    }
+
+    /**
+     * Força para o disco os registros gravados desde a última chamada.
+     */
+    void force() {
+        if (forced < count) {
+            buffer.force(offset(forced), (count - forced) * RECORD_SIZE);
+            forced = count;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // o mapeamento só é desfeito quando o buffer for coletado
+        channel.close();
+    }
+
+    private InetAddress address(byte length) {
+        if (length != 4 && length != 16) {
+            return null;
+        }
+
+        try {
+            return InetAddress.getByAddress(Arrays.copyOfRange(scratch, ADDRESS_OFFSET, ADDRESS_OFFSET + length));
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private static int offset(int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+    // corta no limite do campo sem partir um caractere UTF-8 de vários bytes
+    private static int truncate(byte[] utf8) {
+        if (utf8.length <= MAX_SUBJECT_BYTES) {
+            return utf8.length;
+        }
+
+        int length = MAX_SUBJECT_BYTES;
+        while (length > 0 && (utf8[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,60 @@
+package com.bookWise.user.service.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Log de auditoria de segurança (ver {@link com.bookWise.user.service.audit.AuditLog}).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "audit.log")
+@Getter
+@Setter
+public class AuditLogProperties {
+    private boolean enabled = true;
+    private String directory = "audit";
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+    private int queueCapacity = 65_536;
+    private FsyncPolicy fsync = FsyncPolicy.INTERVAL;
+    private Duration fsyncInterval = Duration.ofSeconds(1);
+
+    @PostConstruct
+    public void validate() {
+        if (!StringUtils.hasText(directory)) {
+            throw new IllegalStateException("A propriedade 'audit.log.directory' deve ser informada");
+        }
+
+        if (segmentSize == null || segmentSize.toMegabytes() < 1) {
+            throw new IllegalStateException("A propriedade 'audit.log.segment-size' deve ser de ao menos 1MB");
+        }
+
+        if (queueCapacity < 1) {
+            throw new IllegalStateException("A propriedade 'audit.log.queue-capacity' deve ser maior que zero");
+        }
+
+        if (fsyncInterval == null || fsyncInterval.isNegative() || fsyncInterval.isZero()) {
+            throw new IllegalStateException("A propriedade 'audit.log.fsync-interval' deve ser maior que zero");
+        }
+    }
+
+    /**
+     * Quando o escritor força as páginas do segmento para o disco. Registros gravados no
+     * mapeamento já sobrevivem a uma queda do processo; a política define quanto se perde numa
+     * queda da máquina. O segmento é sempre forçado ao ser fechado.
+     */
+    public enum FsyncPolicy {
+        /** Só no fechamento do segmento; o resto fica a cargo do sistema operacional. */
+        NONE,
+        /** No máximo a cada {@code fsync-interval}. */
+        INTERVAL,
+        /** Após cada lote retirado da fila, antes do próximo. */
+        BATCH
+    }
+}
@@ -0,0 +1,36 @@
+package com.bookWise.user.service.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "health.cache")
+@Getter
+@Setter
+public class HealthCacheProperties {
+    private boolean enabled = true;
+    private List<String> components = List.of("db", "rabbit");
+    private Duration refreshInterval = Duration.ofSeconds(5);
+    private Duration maxStaleness = Duration.ofSeconds(30);
+
+    @PostConstruct
+    public void validate() {
+        if (components == null || components.isEmpty()) {
+            throw new IllegalStateException("A propriedade 'health.cache.components' deve ter ao menos um componente");
+        }
+
+        if (refreshInterval == null || refreshInterval.isNegative() || refreshInterval.isZero()) {
+            throw new IllegalStateException("A propriedade 'health.cache.refresh-interval' deve ser maior que zero");
+        }
+
+        if (maxStaleness == null || maxStaleness.compareTo(refreshInterval) <= 0) {
+            throw new IllegalStateException("A propriedade 'health.cache.max-staleness' deve ser maior que 'health.cache.refresh-interval'");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.bookWise.user.service.config;
+
+import com.bookWise.user.service.model.entity.User;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+
+/**
+ * Cache de segundo nível do Hibernate sobre JCache/Caffeine. As regiões são criadas aqui,
+ * com tamanho e TTL vindos de {@link UserCacheProperties}, e o {@link CacheManager}
+ * é entregue pronto ao Hibernate.
+ */
+@Slf4j
+@Configuration
+public class HibernateCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(UserCacheProperties cacheProperties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+
+        createRegion(cacheManager, User.CACHE_REGION, cacheProperties.getEntity());
+        createRegion(cacheManager, User.NATURAL_ID_CACHE_REGION, cacheProperties.getNaturalId());
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private void createRegion(CacheManager cacheManager, String name, UserCacheProperties.Region region) {
+        // o CacheManager padrão do provider é compartilhado na JVM (ex.: vários contextos de teste)
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.getTimeToLive().toNanos()));
+        configuration.setStatisticsEnabled(true);
+
+        cacheManager.createCache(name, configuration);
+        log.info("Região de cache '{}' criada: até {} entradas, TTL de {}", name, region.getMaximumSize(),
+                region.getTimeToLive());
+    }
+}
@@ -25,6 +25,7 @@ public class JwtProperties {
     private String tokenHeader = "Authorization";
     private String tokenPrefix = "Bearer ";
     private int maxDevicesPerUser = 5;
+    private TokenFormat tokenFormat = TokenFormat.STANDARD;
 
     @PostConstruct
     public void validate() {
@@ -49,6 +50,17 @@ public class JwtProperties {
                 accessTokenExpirationMs, refreshTokenExpirationMs);
     }
 
+    /**
+     * Formato dos tokens emitidos. Tokens nos dois formatos são aceitos na validação, então a
+     * troca não invalida sessões abertas.
+     */
+    public enum TokenFormat {
+        /** HS512, identificadores como UUID em texto e {@code iat}. */
+        STANDARD,
+        /** HS256, identificadores como 16 bytes em base64url e sem {@code iat} (deriva de {@code exp}). */
+        COMPACT
+    }
+
     public long getAccessTokenExpirationInSeconds() {
         return accessTokenExpirationMs / 1000;
     }
@@ -0,0 +1,63 @@
+package com.bookWise.user.service.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Logging assíncrono (ver {@link com.bookWise.user.service.logging.AsyncLoggingInitializer}).
+ * Também é lida antes do contexto subir, quando o logging é configurado.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "logging.async")
+@Getter
+@Setter
+public class LoggingProperties {
+    private boolean enabled = true;
+    private int queueSize = 8192;
+    private Duration maxFlushTime = Duration.ofSeconds(1);
+    private RateLimit rateLimit = new RateLimit();
+
+    @PostConstruct
+    public void validate() {
+        if (queueSize < 1) {
+            throw new IllegalStateException("A propriedade 'logging.async.queue-size' deve ser maior que zero");
+        }
+
+        if (maxFlushTime == null || maxFlushTime.isNegative()) {
+            throw new IllegalStateException("A propriedade 'logging.async.max-flush-time' não pode ser negativa");
+        }
+
+        rateLimit.validate();
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private boolean enabled = true;
+        private int maxEvents = 20;
+        private Duration interval = Duration.ofSeconds(10);
+        // além das linhas marcadas com RateLimitFilter.RATE_LIMITED; inclui os loggers filhos
+        private List<String> loggers = new ArrayList<>();
+
+        private void validate() {
+            if (maxEvents < 1) {
+                throw new IllegalStateException("A propriedade 'logging.async.rate-limit.max-events' deve ser maior que zero");
+            }
+
+            if (interval == null || interval.isNegative() || interval.isZero()) {
+                throw new IllegalStateException("A propriedade 'logging.async.rate-limit.interval' deve ser maior que zero");
+            }
+
+            if (loggers == null || loggers.stream().anyMatch(logger -> logger == null || logger.isBlank())) {
+                throw new IllegalStateException("A propriedade 'logging.async.rate-limit.loggers' não pode ter nomes vazios");
+            }
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package com.bookWise.user.service.config;
 
+import com.bookWise.user.service.metrics.RabbitConnectionMetrics;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.rabbit.retry.RejectAndDontRequeueRecoverer;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.retry.interceptor.RetryOperationsInterceptor;
 
+import java.util.List;
+import java.util.UUID;
+
 @Configuration
 public class RabbitConfig {
 
@@ -18,6 +26,7 @@ public class RabbitConfig {
     public static final String USER_DLQ = "user.queue.dlq";
     public static final String USER_EXCHANGE = "user.exchange";
     public static final String DLX_EXCHANGE = "user.dlx";
+    public static final String USER_EVENT_BROADCAST_CONTAINER_FACTORY = "userEventBroadcastContainerFactory";
 
     @Value("${spring.rabbitmq.host}")
     private String host;
@@ -32,8 +41,35 @@ public class RabbitConfig {
     private String password;
 
     @Bean
-    public ConnectionFactory connectionFactory() {
+    @Primary
+    public ConnectionFactory connectionFactory(CachingConnectionFactory publisherConnectionFactory,
+                                               RabbitConnectionMetrics connectionMetrics) {
+        CachingConnectionFactory connectionFactory = newConnectionFactory(RabbitConnectionMetrics.CONSUMER);
+        connectionFactory.addChannelListener(connectionMetrics.channelListener(RabbitConnectionMetrics.CONSUMER));
+        connectionFactory.addConnectionListener(connectionMetrics.connectionListener(RabbitConnectionMetrics.CONSUMER));
+        connectionFactory.setPublisherConnectionFactory(publisherConnectionFactory);
+        return connectionFactory;
+    }
+
+    /**
+     * Conexão exclusiva para publicação. Bloqueios por controle de fluxo do broker nesta
+     * conexão não afetam os consumidores, e o cache de canais vira um pool de tamanho fixo
+     * porque o checkout tem timeout.
+     */
+    @Bean
+    public CachingConnectionFactory publisherConnectionFactory(RabbitPublisherProperties publisherProperties,
+                                                               RabbitConnectionMetrics connectionMetrics) {
+        CachingConnectionFactory connectionFactory = newConnectionFactory(RabbitConnectionMetrics.PUBLISHER);
+        connectionFactory.setChannelCacheSize(publisherProperties.getChannelPoolSize());
+        connectionFactory.setChannelCheckoutTimeout(publisherProperties.getChannelCheckoutTimeoutMs());
+        connectionFactory.addChannelListener(connectionMetrics.channelListener(RabbitConnectionMetrics.PUBLISHER));
+        connectionFactory.addConnectionListener(connectionMetrics.connectionListener(RabbitConnectionMetrics.PUBLISHER));
+        return connectionFactory;
+    }
+
+    private CachingConnectionFactory newConnectionFactory(String role) {
         CachingConnectionFactory connectionFactory = new CachingConnectionFactory();
+        connectionFactory.setConnectionNameStrategy(cf -> "user-service-" + role);
         connectionFactory.setHost(host);
         connectionFactory.setPort(port);
         connectionFactory.setUsername(username);
@@ -83,12 +119,49 @@ public class RabbitConfig {
                 .with(USER_DLQ);
     }
 
+    /**
+     * Fila exclusiva desta instância, removida ao desconectar, que recebe uma cópia de todos
+     * os eventos de usuário publicados no cluster. Cada consumidor local tem a sua: dois
+     * consumidores na mesma fila dividiriam as mensagens entre si.
+     */
+    @Bean
+    public Queue userEventBroadcastQueue() {
+        return broadcastQueue();
+    }
+
+    @Bean
+    public Binding userEventBroadcastBinding() {
+        return broadcastBinding(userEventBroadcastQueue());
+    }
+
+    @Bean
+    public Queue userSearchIndexBroadcastQueue() {
+        return broadcastQueue();
+    }
+
+    @Bean
+    public Binding userSearchIndexBroadcastBinding() {
+        return broadcastBinding(userSearchIndexBroadcastQueue());
+    }
+
+    private static Queue broadcastQueue() {
+        return new Queue("user.events." + UUID.randomUUID(), false, true, true);
+    }
+
+    private Binding broadcastBinding(Queue queue) {
+        return BindingBuilder.bind(queue)
+                .to(userExchange())
+                .with("user.#")
+                .noargs();
+    }
+
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setExchange(USER_EXCHANGE);
         rabbitTemplate.setDefaultReceiveQueue(USER_QUEUE);
         rabbitTemplate.setMandatory(true);
+        rabbitTemplate.setUsePublisherConnection(true);
 
         rabbitTemplate.setConfirmCallback((correlation, ack, reason) -> {
             if (!ack) {
@@ -99,6 +172,29 @@ public class RabbitConfig {
         return rabbitTemplate;
     }
 
+    /**
+     * Containers das filas anônimas que recebem todos os eventos de usuário em cada instância.
+     * Os eventos são publicados com serialização Java, então só as classes do evento são
+     * aceitas na desserialização.
+     */
+    @Bean(USER_EVENT_BROADCAST_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory userEventBroadcastContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        SimpleMessageConverter messageConverter = new SimpleMessageConverter();
+        messageConverter.setAllowedListPatterns(List.of(
+                "com.bookWise.user.service.model.event.*",
+                "com.bookWise.user.service.model.enums.*",
+                "java.util.UUID",
+                "java.lang.Enum"));
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setMessageConverter(messageConverter);
+        // quem consome é um otimizador; sem a fila a aplicação sobe e o container segue tentando
+        factory.setMissingQueuesFatal(false);
+        return factory;
+    }
+
     @Bean
     public RetryOperationsInterceptor retryInterceptor() {
         return RetryInterceptorBuilder.stateless()
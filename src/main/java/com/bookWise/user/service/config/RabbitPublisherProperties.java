@@ -0,0 +1,32 @@
+package com.bookWise.user.service.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "rabbit.publisher")
+@Getter
+@Setter
+public class RabbitPublisherProperties {
+    private int channelPoolSize = 16;
+    private long channelCheckoutTimeoutMs = 2000;
+    private int prewarmChannels = 8;
+
+    @PostConstruct
+    public void validate() {
+        if (channelPoolSize < 1) {
+            throw new IllegalStateException("A propriedade 'rabbit.publisher.channel-pool-size' deve ser maior que zero");
+        }
+
+        if (channelCheckoutTimeoutMs <= 0) {
+            throw new IllegalStateException("A propriedade 'rabbit.publisher.channel-checkout-timeout-ms' deve ser maior que zero");
+        }
+
+        if (prewarmChannels < 0 || prewarmChannels > channelPoolSize) {
+            throw new IllegalStateException("A propriedade 'rabbit.publisher.prewarm-channels' deve estar entre 0 e o tamanho do pool de canais");
+        }
+    }
+}
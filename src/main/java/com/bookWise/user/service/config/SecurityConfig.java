@@ -1,9 +1,13 @@
 package com.bookWise.user.service.config;
 
+import com.bookWise.user.service.security.InstrumentedPasswordEncoder;
 import com.bookWise.user.service.security.JwtAuthenticationFilter;
+import com.bookWise.user.service.security.PlatformThreadPasswordEncoder;
+import com.bookWise.user.service.security.PublicRoutes;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -30,27 +34,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
-    private static final String[] WHITELIST = {
-            "/auth/login",
-            "/auth/refresh",
-            "/v3/api-docs/**",
-            "/v3/api-docs",
-            "/swagger-ui/**",
-            "/swagger-ui.html",
-            "/swagger-ui/index.html",
-            "/swagger-resources/**",
-            "/v2/api-docs",
-            "/v2/api-docs/**",
-            "/webjars/**",
-            "/actuator/health",
-            "/users/register",
-            "/users/register/**",
-            "/configuration/security",
-            "/configuration/ui",
-            "/swagger-resources/configuration/ui",
-            "/swagger-resources/configuration/security"
-    };
-    
+    private final PublicRoutes publicRoutes;
     private static final String[] AUTHENTICATED_ENDPOINTS = {
             "/auth/change-password",
             "/auth/logout"
@@ -59,13 +43,13 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         log.info("Configurando SecurityFilterChain...");
-        log.info("Rotas na whitelist: {}", Arrays.toString(WHITELIST));
+        log.info("Rotas públicas: {}", publicRoutes);
         
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> {
-                    auth.requestMatchers(WHITELIST).permitAll()
+                    auth.requestMatchers(publicRoutes).permitAll()
                        .requestMatchers(AUTHENTICATED_ENDPOINTS).authenticated()
                        .anyRequest().permitAll();
                     log.info("Configuração de autorização aplicada");
@@ -113,7 +97,11 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        PasswordEncoder passwordEncoder = new InstrumentedPasswordEncoder(new BCryptPasswordEncoder());
+        if (virtualThreads) {
+            return new PlatformThreadPasswordEncoder(passwordEncoder, Runtime.getRuntime().availableProcessors());
+        }
+        return passwordEncoder;
     }
 }
@@ -0,0 +1,41 @@
+package com.bookWise.user.service.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "jwt.introspection")
+@Getter
+@Setter
+public class TokenIntrospectionProperties {
+    private List<String> clientKeys = new ArrayList<>();
+    private int maxTokens = 100;
+    private long cacheMaximumSize = 10_000;
+    private Duration cacheTtl = Duration.ofMinutes(5);
+
+    @PostConstruct
+    public void validate() {
+        if (clientKeys.stream().anyMatch(key -> key.length() < 32)) {
+            throw new IllegalStateException("As chaves de 'jwt.introspection.client-keys' devem ter pelo menos 32 caracteres");
+        }
+
+        if (maxTokens < 1) {
+            throw new IllegalStateException("A propriedade 'jwt.introspection.max-tokens' deve ser maior que zero");
+        }
+
+        if (cacheMaximumSize < 1) {
+            throw new IllegalStateException("A propriedade 'jwt.introspection.cache-maximum-size' deve ser maior que zero");
+        }
+
+        if (cacheTtl == null || cacheTtl.isNegative() || cacheTtl.isZero()) {
+            throw new IllegalStateException("A propriedade 'jwt.introspection.cache-ttl' deve ser maior que zero");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.bookWise.user.service.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "users.cache")
+@Getter
+@Setter
+public class UserCacheProperties {
+    private Region entity = new Region();
+    private Region naturalId = new Region();
+    private Region principal = new Region(10_000, Duration.ofMinutes(1));
+    // tokens já verificados pelo filtro de autenticação; cada entrada também expira com o token
+    private Region verifiedToken = new Region(10_000, Duration.ofMinutes(5));
+
+    @PostConstruct
+    public void validate() {
+        entity.validate("users.cache.entity");
+        naturalId.validate("users.cache.natural-id");
+        principal.validate("users.cache.principal");
+        verifiedToken.validate("users.cache.verified-token");
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        private long maximumSize = 10_000;
+        private Duration timeToLive = Duration.ofMinutes(10);
+
+        private void validate(String prefix) {
+            if (maximumSize < 1) {
+                throw new IllegalStateException("A propriedade '" + prefix + ".maximum-size' deve ser maior que zero");
+            }
+
+            if (timeToLive == null || timeToLive.isNegative() || timeToLive.isZero()) {
+                throw new IllegalStateException("A propriedade '" + prefix + ".time-to-live' deve ser maior que zero");
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.bookWise.user.service.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "users")
+@Getter
+@Setter
+public class UserProperties {
+    // o lote vira uma única lista IN; acima disso o plano e o tamanho do comando degradam
+    private static final int MAX_BATCH_IDS = 1000;
+
+    private int batchMaxIds = 500;
+    private int exportPageSize = 1000;
+    private int importBatchSize = 500;
+    private int searchMaxResults = 50;
+    private int importHashParallelism = Runtime.getRuntime().availableProcessors();
+    private long emailFilterExpectedInsertions = 1_000_000;
+    private double emailFilterFalsePositiveRate = 0.01;
+    private Duration lastLoginFlushInterval = Duration.ofSeconds(5);
+    private List<String> bulkClientKeys = new ArrayList<>();
+
+    @PostConstruct
+    public void validate() {
+        if (batchMaxIds < 1 || batchMaxIds > MAX_BATCH_IDS) {
+            throw new IllegalStateException("A propriedade 'users.batch-max-ids' deve estar entre 1 e " + MAX_BATCH_IDS);
+        }
+
+        if (exportPageSize < 1) {
+            throw new IllegalStateException("A propriedade 'users.export-page-size' deve ser maior que zero");
+        }
+
+        if (searchMaxResults < 1) {
+            throw new IllegalStateException("A propriedade 'users.search-max-results' deve ser maior que zero");
+        }
+
+        if (importBatchSize < 1) {
+            throw new IllegalStateException("A propriedade 'users.import-batch-size' deve ser maior que zero");
+        }
+
+        if (importHashParallelism < 1) {
+            throw new IllegalStateException("A propriedade 'users.import-hash-parallelism' deve ser maior que zero");
+        }
+
+        if (emailFilterExpectedInsertions < 1) {
+            throw new IllegalStateException("A propriedade 'users.email-filter-expected-insertions' deve ser maior que zero");
+        }
+
+        if (emailFilterFalsePositiveRate <= 0 || emailFilterFalsePositiveRate >= 1) {
+            throw new IllegalStateException("A propriedade 'users.email-filter-false-positive-rate' deve estar entre 0 e 1");
+        }
+
+        if (bulkClientKeys.stream().anyMatch(key -> key.length() < 32)) {
+            throw new IllegalStateException("As chaves de 'users.bulk-client-keys' devem ter pelo menos 32 caracteres");
+        }
+
+        if (lastLoginFlushInterval == null || lastLoginFlushInterval.isNegative() || lastLoginFlushInterval.isZero()) {
+            throw new IllegalStateException("A propriedade 'users.last-login-flush-interval' deve ser maior que zero");
+        }
+    }
+}
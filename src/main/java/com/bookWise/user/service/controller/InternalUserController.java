@@ -0,0 +1,67 @@
+package com.bookWise.user.service.controller;
+
+import com.bookWise.user.service.config.UserProperties;
+import com.bookWise.user.service.exception.AuthenticationException;
+import com.bookWise.user.service.security.ClientKeys;
+import com.bookWise.user.service.model.dto.UserImportReport;
+import com.bookWise.user.service.service.UserExportService;
+import com.bookWise.user.service.service.UserImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Operações em massa sobre usuários, para serviços internos: autenticadas pela chave do serviço
+ * chamador ({@code users.bulk-client-keys}), não por um token de usuário.
+ */
+@RestController
+@RequestMapping("/internal/users")
+@RequiredArgsConstructor
+public class InternalUserController {
+    public static final String CLIENT_KEY_HEADER = "X-Client-Key";
+
+    private static final AuthenticationException UNAUTHORIZED_CLIENT =
+            AuthenticationException.stackless("Cliente não autorizado para operações em massa");
+
+    private final UserExportService userExportService;
+    private final UserImportService userImportService;
+    private final UserProperties userProperties;
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestHeader(name = CLIENT_KEY_HEADER, required = false) String clientKey) {
+        authorizeClient(clientKey);
+        StreamingResponseBody body = userExportService::exportAll;
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public UserImportReport importNdjson(
+            @RequestHeader(name = CLIENT_KEY_HEADER, required = false) String clientKey,
+            InputStream body) throws IOException {
+        authorizeClient(clientKey);
+        return userImportService.importNdjson(body);
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public UserImportReport importCsv(
+            @RequestHeader(name = CLIENT_KEY_HEADER, required = false) String clientKey,
+            InputStream body) throws IOException {
+        authorizeClient(clientKey);
+        return userImportService.importCsv(body);
+    }
+
+    private void authorizeClient(String clientKey) {
+        if (!ClientKeys.matches(clientKey, userProperties.getBulkClientKeys())) {
+            throw UNAUTHORIZED_CLIENT;
+        }
+    }
+}
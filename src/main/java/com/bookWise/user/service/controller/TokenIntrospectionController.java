@@ -0,0 +1,37 @@
+package com.bookWise.user.service.controller;
+
+import com.bookWise.user.service.model.dto.TokenIntrospectionRequest;
+import com.bookWise.user.service.model.dto.TokenIntrospectionResult;
+import com.bookWise.user.service.service.TokenIntrospectionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Endpoint interno: autenticado pela chave do serviço chamador ({@code jwt.introspection.client-keys}),
+ * não por um token de usuário.
+ */
+@Validated
+@RestController
+@RequestMapping("/internal/tokens")
+@RequiredArgsConstructor
+public class TokenIntrospectionController {
+    public static final String CLIENT_KEY_HEADER = "X-Introspection-Key";
+
+    private final TokenIntrospectionService tokenIntrospectionService;
+
+    @PostMapping("/introspect")
+    public ResponseEntity<TokenIntrospectionResult> introspect(
+            @RequestHeader(name = CLIENT_KEY_HEADER, required = false) String clientKey,
+            @Valid @RequestBody TokenIntrospectionRequest request) {
+        tokenIntrospectionService.authorizeClient(clientKey);
+
+        TokenIntrospectionResult result = tokenIntrospectionService.introspect(request.getTokens());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(tokenIntrospectionService.maxAge(result)).cachePrivate())
+                .body(result);
+    }
+}
@@ -1,8 +1,12 @@
 package com.bookWise.user.service.controller;
 
+import com.bookWise.user.service.audit.AuditEventType;
+import com.bookWise.user.service.audit.AuditLog;
+import com.bookWise.user.service.logging.RateLimitFilter;
 import com.bookWise.user.service.model.dto.AccessTokenDTO;
 import com.bookWise.user.service.model.dto.ChangePasswordRequest;
 import com.bookWise.user.service.model.dto.LoginRequest;
+import com.bookWise.user.service.security.UserPrincipal;
 import com.bookWise.user.service.service.UserAuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +18,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.UUID;
+
 @Slf4j
 @Validated
 @RestController
@@ -21,10 +27,11 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class UserAuthController {
     private final UserAuthService userAuthService;
+    private final AuditLog auditLog;
 
     @PostMapping("/login")
     public ResponseEntity<AccessTokenDTO> login(@Valid @RequestBody LoginRequest request) {
-        log.info("Login attempt for email: {}", request.getEmail());
+        log.atInfo().addMarker(RateLimitFilter.RATE_LIMITED).addKeyValue("email", request.getEmail()).log("Login attempt");
         AccessTokenDTO tokens = userAuthService.login(request.getEmail(), request.getPassword());
         return ResponseEntity.ok(tokens);
     }
@@ -54,6 +61,8 @@ public class UserAuthController {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null) {
             SecurityContextHolder.clearContext();
+            UUID userId = authentication.getPrincipal() instanceof UserPrincipal principal ? principal.getId() : null;
+            auditLog.record(AuditEventType.LOGOUT, userId, authentication.getName());
             log.info("User logged out: {}", authentication.getName());
         }
         return ResponseEntity.noContent().build();
@@ -1,15 +1,27 @@
 package com.bookWise.user.service.controller;
 
+import com.bookWise.user.service.model.dto.EmailAvailabilityDTO;
+import com.bookWise.user.service.model.dto.UserBatchRequest;
+import com.bookWise.user.service.model.dto.UserBatchResult;
+import com.bookWise.user.service.model.dto.UserProfileDTO;
+import com.bookWise.user.service.model.dto.UserSummaryDTO;
 import com.bookWise.user.service.model.entity.User;
 import com.bookWise.user.service.service.UserService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,23 +33,82 @@ import java.util.UUID;
 public class UserController {
     private final UserService userService;
 
+    @GetMapping("/search")
+    @PreAuthorize("isAuthenticated()")
+    public List<UserSummaryDTO> search(@RequestParam("q") @NotBlank String query,
+                                       @RequestParam(defaultValue = "10") @Min(1) int limit) {
+        return userService.search(query, limit);
+    }
+
+    @GetMapping("/email-available")
+    public EmailAvailabilityDTO isEmailAvailable(@RequestParam @NotBlank @Email String email) {
+        return new EmailAvailabilityDTO(email, userService.isEmailAvailable(email));
+    }
+
     @GetMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("isAuthenticated()")
-    public Optional<User> findById(@PathVariable UUID id) {
-        return userService.findById(id);
+    public ResponseEntity<UserProfileDTO> findById(@PathVariable UUID id, WebRequest request) {
+        // Clientes que fazem polling pagam apenas a consulta da versão quando nada mudou
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<Long> version = userService.findVersionById(id);
+            if (version.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (request.checkNotModified(toETag(version.get()))) {
+                return null;
+            }
+        }
+
+        return userService.findProfileById(id)
+                .map(profile -> ResponseEntity.ok()
+                        .eTag(toETag(profile.version()))
+                        .body(profile))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/batch")
+    @PreAuthorize("isAuthenticated()")
+    public UserBatchResult findByIds(@Valid @RequestBody UserBatchRequest request) {
+        return userService.findSummariesByIds(request.getIds());
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public User registerUser(@Valid @RequestBody User user) {
-        return userService.registerUser(user);
+    public UserProfileDTO registerUser(@Valid @RequestBody User user) {
+        return UserProfileDTO.from(userService.registerUser(user));
     }
 
     @PutMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("isAuthenticated()")
-    public User updateUser(@PathVariable UUID id, @Valid @RequestBody User user) {
-        return userService.updateUser(id, user);
+    public ResponseEntity<UserProfileDTO> updateUser(@PathVariable UUID id, @Valid @RequestBody User user,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        User updatedUser = userService.updateUser(id, user, parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(toETag(updatedUser.getVersion()))
+                .body(UserProfileDTO.from(updatedUser));
+    }
+
+    private static String toETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cabeçalho If-Match inválido: " + ifMatch);
+        }
     }
 }
@@ -8,4 +8,16 @@ public class AuthenticationException extends RuntimeException {
     public AuthenticationException(String message) {
         super(message);
     }
+
+    private AuthenticationException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    /**
+     * Exceção sem stack trace nem exceções suprimidas, que pode ser pré-alocada e lançada por
+     * várias threads: para rejeições esperadas, em que o stack trace não diz nada.
+     */
+    public static AuthenticationException stackless(String message) {
+        return new AuthenticationException(message, false);
+    }
 }
@@ -1,9 +1,11 @@
 package com.bookWise.user.service.exception;
 
+import com.bookWise.user.service.logging.RateLimitFilter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -24,13 +26,21 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<ErrorResponse> handleAuthenticationException(AuthenticationException ex) {
-        log.error("Authentication error: {}", ex.getMessage());
+        log.warn(RateLimitFilter.RATE_LIMITED, "Authentication error: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.UNAUTHORIZED);
+    }
+
+    // a exceção do serviço tem o mesmo nome simples da do Spring Security, importada acima
+    @ExceptionHandler(com.bookWise.user.service.exception.AuthenticationException.class)
+    public ResponseEntity<ErrorResponse> handleServiceAuthenticationException(
+            com.bookWise.user.service.exception.AuthenticationException ex) {
+        log.warn(RateLimitFilter.RATE_LIMITED, "Authentication error: {}", ex.getMessage());
         return buildErrorResponse(ex, HttpStatus.UNAUTHORIZED);
     }
 
     @ExceptionHandler(TokenValidationException.class)
     public ResponseEntity<ErrorResponse> handleTokenValidationException(TokenValidationException ex) {
-        log.error("Token validation error: {}", ex.getMessage());
+        log.warn(RateLimitFilter.RATE_LIMITED, "Token validation error: {}", ex.getMessage());
         return buildErrorResponse(ex, HttpStatus.UNAUTHORIZED);
     }
 
@@ -40,6 +50,18 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return buildErrorResponse(ex, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException ex) {
+        log.warn("Precondition failed: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        return buildErrorResponse(new IllegalStateException("O recurso foi alterado por outra requisição"), HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex) {
         log.error("Access denied: {}", ex.getMessage());
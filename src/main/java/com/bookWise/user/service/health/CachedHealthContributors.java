@@ -0,0 +1,78 @@
+package com.bookWise.user.service.health;
+
+import com.bookWise.user.service.config.HealthCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Troca, no registro do actuator, os componentes de {@code health.cache.components} (por padrão
+ * {@code db} e {@code rabbit}, o grupo {@code readiness}) por {@link CachedHealthIndicator}s
+ * atualizados em threads próprias a cada {@code health.cache.refresh-interval}.
+ * <p>
+ * Uma thread por componente: um banco lento não atrasa a verificação do broker.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "health.cache", name = "enabled", matchIfMissing = true)
+public class CachedHealthContributors implements SmartInitializingSingleton, DisposableBean {
+
+    private final HealthContributorRegistry healthContributorRegistry;
+    private final HealthCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<CachedHealthIndicator> cached = new ArrayList<>();
+        for (String name : properties.getComponents()) {
+            HealthContributor contributor = healthContributorRegistry.getContributor(name);
+            if (!(contributor instanceof HealthIndicator indicator)) {
+                log.warn("Componente de saúde '{}' não encontrado ou composto; mantido sem cache", name);
+                continue;
+            }
+
+            CachedHealthIndicator cachedIndicator =
+                    new CachedHealthIndicator(name, indicator, properties.getMaxStaleness(), meterRegistry);
+            healthContributorRegistry.unregisterContributor(name);
+            healthContributorRegistry.registerContributor(name, cachedIndicator);
+            cached.add(cachedIndicator);
+        }
+
+        if (cached.isEmpty()) {
+            return;
+        }
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(cached.size());
+        scheduler.setThreadNamePrefix("health-refresh-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        for (CachedHealthIndicator indicator : cached) {
+            scheduler.scheduleWithFixedDelay(indicator::refresh, properties.getRefreshInterval());
+        }
+
+        log.info("Verificações de saúde {} em cache, atualizadas a cada {}", properties.getComponents(),
+                properties.getRefreshInterval());
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.bookWise.user.service.health;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Responde com o último resultado de outro {@link HealthIndicator}, verificado em segundo plano
+ * por {@link #refresh()}. A sonda nunca toca o banco nem o broker: lê um campo volátil.
+ * <p>
+ * Se a última verificação for mais antiga que {@code maxStaleness} (a atualização travou ou
+ * ainda não rodou), o componente responde {@code DOWN}: um resultado {@code UP} antigo não
+ * pode manter o pod recebendo tráfego.
+ */
+@Slf4j
+public class CachedHealthIndicator implements HealthIndicator {
+    private static final Health NOT_CHECKED = Health.down()
+            .withDetail("reason", "Verificação ainda não executada")
+            .build();
+
+    private final String name;
+    private final HealthIndicator delegate;
+    private final long maxStalenessNanos;
+    private final LongSupplier nanoTime;
+    private final Timer probeTimer;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Snapshot snapshot;
+
+    public CachedHealthIndicator(String name, HealthIndicator delegate, Duration maxStaleness, MeterRegistry meterRegistry) {
+        this(name, delegate, maxStaleness, meterRegistry, System::nanoTime);
+    }
+
+    CachedHealthIndicator(String name, HealthIndicator delegate, Duration maxStaleness, MeterRegistry meterRegistry,
+                          LongSupplier nanoTime) {
+        this.name = name;
+        this.delegate = delegate;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.nanoTime = nanoTime;
+        this.meterRegistry = meterRegistry;
+        this.probeTimer = Timer.builder("health.probe")
+                .description("Tempo para responder a sonda com o resultado em cache")
+                .tag("component", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("health.check.age", this, CachedHealthIndicator::ageSeconds)
+                .description("Idade do resultado em cache, em segundos")
+                .tag("component", name)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Health health() {
+        long start = nanoTime.getAsLong();
+        Snapshot current = snapshot;
+        Health health;
+        if (current == null) {
+            health = NOT_CHECKED;
+        } else if (start - current.checkedAtNanos() > maxStalenessNanos) {
+            health = Health.down()
+                    .withDetail("reason", "Resultado em cache expirado")
+                    .withDetail("checkedAt", current.checkedAt().toString())
+                    .build();
+        } else {
+            health = current.health();
+        }
+
+        probeTimer.record(nanoTime.getAsLong() - start, TimeUnit.NANOSECONDS);
+        return health;
+    }
+
+    /**
+     * Executa a verificação real e troca o resultado em cache. Chamado apenas pela thread de
+     * atualização.
+     */
+    public void refresh() {
+        long start = nanoTime.getAsLong();
+        Health checked;
+        try {
+            checked = delegate.getHealth(true);
+        } catch (Exception e) {
+            checked = Health.down(e).build();
+        }
+        long end = nanoTime.getAsLong();
+
+        Timer.builder("health.check")
+                .description("Tempo da verificação real do componente, em segundo plano")
+                .tag("component", name)
+                .tag("status", checked.getStatus().getCode())
+                .register(meterRegistry)
+                .record(end - start, TimeUnit.NANOSECONDS);
+
+        Snapshot previous = snapshot;
+        Instant checkedAt = Instant.now();
+        snapshot = new Snapshot(Health.status(checked.getStatus())
+                .withDetails(checked.getDetails())
+                .withDetail("checkedAt", checkedAt.toString())
+                .build(), end, checkedAt);
+
+        Status previousStatus = previous == null ? null : previous.health().getStatus();
+        if (!checked.getStatus().equals(previousStatus)) {
+            if (Status.UP.equals(checked.getStatus())) {
+                log.info("Componente de saúde '{}' está {}", name, checked.getStatus());
+            } else {
+                log.warn("Componente de saúde '{}' está {}: {}", name, checked.getStatus(), checked.getDetails());
+            }
+        }
+    }
+
+    private double ageSeconds() {
+        Snapshot current = snapshot;
+        return current == null ? Double.NaN : (nanoTime.getAsLong() - current.checkedAtNanos()) / 1e9;
+    }
+
+    private record Snapshot(Health health, long checkedAtNanos, Instant checkedAt) {
+    }
+}
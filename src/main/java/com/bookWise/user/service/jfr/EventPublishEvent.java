@@ -0,0 +1,19 @@
+package com.bookWise.user.service.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(EventPublishEvent.NAME)
+@Label("Event Publish")
+@Description("Publicação de eventos de usuário no RabbitMQ, do checkout do canal ao envio")
+public class EventPublishEvent extends PhaseEvent {
+    public static final String NAME = "bookwise.EventPublish";
+
+    @Label("Mode")
+    @Description("single ou batch")
+    public String mode;
+
+    @Label("Events")
+    public int events;
+}
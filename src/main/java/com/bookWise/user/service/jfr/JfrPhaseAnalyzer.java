@@ -0,0 +1,116 @@
+package com.bookWise.user.service.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resume uma gravação JFR por fase: quantidade, p50/p90/p99, máximo e tempo total de cada
+ * evento {@link PhaseEvent}, separado por {@code outcome}. Eventos de outras origens são
+ * ignorados.
+ * <pre>
+ * java -cp target/classes com.bookWise.user.service.jfr.JfrPhaseAnalyzer gravacao.jfr
+ * java -cp user-service.jar -Dloader.main=com.bookWise.user.service.jfr.JfrPhaseAnalyzer \
+ *      org.springframework.boot.loader.launch.PropertiesLauncher gravacao.jfr
+ * </pre>
+ */
+public final class JfrPhaseAnalyzer {
+    private static final String EVENT_PREFIX = "bookwise.";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private JfrPhaseAnalyzer() {
+    }
+
+    public record PhaseSummary(String phase, String outcome, int count, long p50Nanos, long p90Nanos,
+                               long p99Nanos, long maxNanos, long totalNanos) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Uso: JfrPhaseAnalyzer <gravacao.jfr>");
+            System.exit(2);
+        }
+
+        print(analyze(Path.of(args[0])), System.out);
+    }
+
+    public static List<PhaseSummary> analyze(Path recording) throws IOException {
+        Map<String, Durations> durations = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String name = event.getEventType().getName();
+                if (!name.startsWith(EVENT_PREFIX) || !event.hasField("outcome")) {
+                    continue;
+                }
+
+                String phase = name.substring(EVENT_PREFIX.length());
+                String outcome = event.getString("outcome");
+                durations.computeIfAbsent(phase + '\u0000' + outcome, key -> new Durations(phase, outcome))
+                        .add(event.getDuration().toNanos());
+            }
+        }
+
+        List<PhaseSummary> summaries = new ArrayList<>(durations.size());
+        for (Durations phase : durations.values()) {
+            summaries.add(phase.summarize());
+        }
+        return summaries;
+    }
+
+    public static void print(List<PhaseSummary> summaries, PrintStream out) {
+        out.printf("%-14s %-12s %10s %10s %10s %10s %10s %12s%n",
+                "fase", "resultado", "eventos", "p50 (ms)", "p90 (ms)", "p99 (ms)", "max (ms)", "total (ms)");
+        for (PhaseSummary summary : summaries) {
+            out.printf("%-14s %-12s %10d %10.3f %10.3f %10.3f %10.3f %12.1f%n",
+                    summary.phase(), summary.outcome(), summary.count(),
+                    summary.p50Nanos() / NANOS_PER_MILLI, summary.p90Nanos() / NANOS_PER_MILLI,
+                    summary.p99Nanos() / NANOS_PER_MILLI, summary.maxNanos() / NANOS_PER_MILLI,
+                    summary.totalNanos() / NANOS_PER_MILLI);
+        }
+    }
+
+    private static final class Durations {
+        private final String phase;
+        private final String outcome;
+        private long[] values = new long[256];
+        private int size;
+
+        private Durations(String phase, String outcome) {
+            this.phase = phase;
+            this.outcome = outcome;
+        }
+
+        private void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        private PhaseSummary summarize() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            long total = 0;
+            for (long value : sorted) {
+                total += value;
+            }
+
+            return new PhaseSummary(phase, outcome, size, percentile(sorted, 0.50), percentile(sorted, 0.90),
+                    percentile(sorted, 0.99), sorted[size - 1], total);
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)];
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.bookWise.user.service.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(PasswordHashEvent.NAME)
+@Label("Password Hash")
+@Description("Codificação ou verificação de senha pelo PasswordEncoder")
+public class PasswordHashEvent extends PhaseEvent {
+    public static final String NAME = "bookwise.PasswordHash";
+
+    @Label("Operation")
+    @Description("encode ou matches")
+    public String operation;
+}
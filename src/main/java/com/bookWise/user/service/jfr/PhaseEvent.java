@@ -0,0 +1,35 @@
+package com.bookWise.user.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base dos eventos JFR das fases de uma requisição: a duração vem de {@code begin()} até
+ * {@link #finish(String)}, e todo evento tem um {@code outcome}, o que permite a
+ * {@link JfrPhaseAnalyzer} resumir qualquer fase da mesma forma.
+ * <p>
+ * Sem stack trace, para serem baratos o bastante para ficarem sempre ligados. Com o JFR
+ * desligado, {@code new}, {@code begin()} e {@code finish} são eliminados pelo JIT.
+ */
+@Category({"BookWise", "User Service"})
+@StackTrace(false)
+public abstract class PhaseEvent extends Event {
+
+    @Label("Outcome")
+    @Description("Resultado da fase")
+    String outcome;
+
+    /**
+     * Encerra a medição e grava o evento, se ele passar pelo limite de duração configurado.
+     */
+    public final void finish(String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.bookWise.user.service.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * O {@code outcome} é o resultado da validação ({@code VALID}, {@code EXPIRED}, {@code SIGNATURE}...).
+ */
+@Name(TokenParseEvent.NAME)
+@Label("Token Parse")
+@Description("Parse e validação de um token JWT em JwtProvider; acertos de VerifiedTokenCache não geram evento")
+public class TokenParseEvent extends PhaseEvent {
+    public static final String NAME = "bookwise.TokenParse";
+}
@@ -0,0 +1,15 @@
+package com.bookWise.user.service.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(TokenSignEvent.NAME)
+@Label("Token Sign")
+@Description("Assinatura de um token JWT em JwtProvider")
+public class TokenSignEvent extends PhaseEvent {
+    public static final String NAME = "bookwise.TokenSign";
+
+    @Label("Token Type")
+    public String tokenType;
+}
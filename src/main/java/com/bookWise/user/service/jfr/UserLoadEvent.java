@@ -0,0 +1,16 @@
+package com.bookWise.user.service.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(UserLoadEvent.NAME)
+@Label("User Load")
+@Description("Carga do usuário autenticado em CustomUserDetailsService; acertos de PrincipalCache não geram evento")
+public class UserLoadEvent extends PhaseEvent {
+    public static final String NAME = "bookwise.UserLoad";
+
+    @Label("Lookup")
+    @Description("Chave da busca: EMAIL ou ID")
+    public String lookup;
+}
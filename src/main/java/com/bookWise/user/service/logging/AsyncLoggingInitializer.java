@@ -0,0 +1,84 @@
+package com.bookWise.user.service.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import com.bookWise.user.service.config.LoggingProperties;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.logging.LoggingApplicationListener;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Logo depois de o Spring Boot configurar o logback, coloca cada appender do logger raiz
+ * (console, arquivo, com padrão texto ou estruturado) atrás de um {@link MeteredAsyncAppender}
+ * que nunca bloqueia: a thread da requisição só enfileira o evento, e a formatação dos campos
+ * estruturados e a escrita ficam com a thread do appender. Um único {@link RateLimitFilter} é
+ * compartilhado pelos appenders assíncronos e só limita as linhas que optaram por ele.
+ * <p>
+ * Registrado em {@code META-INF/spring.factories}, porque precisa rodar antes do contexto.
+ */
+public class AsyncLoggingInitializer implements ApplicationListener<ApplicationEnvironmentPreparedEvent>, Ordered {
+    static final String ASYNC_PREFIX = "ASYNC_";
+
+    @Override
+    public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+
+        LoggingProperties properties = Binder.get(event.getEnvironment())
+                .bind("logging.async", LoggingProperties.class)
+                .orElseGet(LoggingProperties::new);
+        properties.validate();
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        List<Appender<ILoggingEvent>> appenders = new ArrayList<>();
+        root.iteratorForAppenders().forEachRemaining(appenders::add);
+
+        RateLimitFilter rateLimitFilter = null;
+        if (properties.getRateLimit().isEnabled()) {
+            rateLimitFilter = new RateLimitFilter(properties.getRateLimit().getMaxEvents(),
+                    properties.getRateLimit().getInterval(), properties.getRateLimit().getLoggers());
+            rateLimitFilter.setContext(context);
+            rateLimitFilter.start();
+        }
+
+        for (Appender<ILoggingEvent> appender : appenders) {
+            // o logback não é reconfigurado quando outra SpringApplication sobe na mesma JVM
+            if (appender instanceof AsyncAppenderBase) {
+                continue;
+            }
+
+            MeteredAsyncAppender async = new MeteredAsyncAppender();
+            async.setContext(context);
+            async.setName(ASYNC_PREFIX + appender.getName());
+            async.setQueueSize(properties.getQueueSize());
+            async.setMaxFlushTime((int) properties.getMaxFlushTime().toMillis());
+            async.setNeverBlock(true);
+            if (rateLimitFilter != null) {
+                async.addFilter(rateLimitFilter);
+            }
+            async.addAppender(appender);
+            async.start();
+
+            root.addAppender(async);
+            root.detachAppender(appender);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LoggingApplicationListener.DEFAULT_ORDER + 1;
+    }
+}
@@ -0,0 +1,45 @@
+package com.bookWise.user.service.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} que conta o que descarta. Com a fila acima de 80% da capacidade os
+ * eventos de INFO e abaixo são descartados ({@code discarded}); com {@code neverBlock} e a fila
+ * cheia, qualquer evento é descartado em vez de bloquear a thread que loga ({@code queue_full}).
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder queueFull = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // o AsyncAppenderBase descarta em silêncio quando o offer falha; a verificação antes
+        // dele não é atômica e pode deixar de contar algum descarte numa corrida
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            queueFull.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        // só é chamado com a fila acima do limite de descarte
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            discarded.increment();
+        }
+        return discardable;
+    }
+
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    public long getQueueFullCount() {
+        return queueFull.sum();
+    }
+}
@@ -0,0 +1,126 @@
+package com.bookWise.user.service.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limita cada mensagem repetitiva de INFO/WARN a {@code maxEvents} ocorrências por intervalo;
+ * o excedente é descartado e contado. A chave é o formato da mensagem ({@code "... {}"}), não
+ * o texto formatado, então linhas por requisição ou por evento com argumentos diferentes caem
+ * na mesma janela. ERROR sempre passa, e DEBUG/TRACE só estão ativos quando alguém os ligou.
+ * <p>
+ * Só entram no limite as linhas que optaram por ele: as marcadas com {@link #RATE_LIMITED}
+ * (linhas por requisição no caminho de autenticação) e as dos loggers configurados em
+ * {@code logging.async.rate-limit.loggers}, com seus filhos. As demais linhas de negócio
+ * nunca são descartadas por aqui.
+ * <p>
+ * Roda na cadeia de filtros do appender assíncrono, na thread que loga e antes de a mensagem
+ * ser formatada.
+ */
+public class RateLimitFilter extends Filter<ILoggingEvent> {
+    public static final Marker RATE_LIMITED = MarkerFactory.getMarker("RATE_LIMITED");
+
+    // formatos montados dinamicamente não podem fazer o mapa crescer sem limite
+    static final int MAX_TRACKED_MESSAGES = 1024;
+
+    private final int maxEvents;
+    private final long intervalNanos;
+    private final LongSupplier nanoTime;
+    private final List<String> loggers;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+
+    public RateLimitFilter(int maxEvents, Duration interval, Collection<String> loggers) {
+        this(maxEvents, interval, loggers, System::nanoTime);
+    }
+
+    RateLimitFilter(int maxEvents, Duration interval, Collection<String> loggers, LongSupplier nanoTime) {
+        this.maxEvents = maxEvents;
+        this.intervalNanos = interval.toNanos();
+        this.nanoTime = nanoTime;
+        this.loggers = List.copyOf(loggers);
+        setName("RATE_LIMIT");
+    }
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        int level = event.getLevel().levelInt;
+        String message = event.getMessage();
+        if (level < Level.INFO_INT || level > Level.WARN_INT || message == null || !isLimited(event)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Window window = windows.get(message);
+        if (window == null) {
+            if (windows.size() >= MAX_TRACKED_MESSAGES) {
+                return FilterReply.NEUTRAL;
+            }
+            window = windows.computeIfAbsent(message, key -> new Window(nanoTime.getAsLong()));
+        }
+
+        if (window.tryAcquire(nanoTime.getAsLong())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        suppressed.increment();
+        return FilterReply.DENY;
+    }
+
+    private boolean isLimited(ILoggingEvent event) {
+        List<Marker> markers = event.getMarkerList();
+        if (markers != null) {
+            for (Marker marker : markers) {
+                if (marker.contains(RATE_LIMITED)) {
+                    return true;
+                }
+            }
+        }
+
+        String name = event.getLoggerName();
+        for (String logger : loggers) {
+            if (name.startsWith(logger)
+                    && (name.length() == logger.length() || name.charAt(logger.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    private final class Window {
+        private long start;
+        private int count;
+
+        private Window(long start) {
+            this.start = start;
+        }
+
+        private synchronized boolean tryAcquire(long now) {
+            if (now - start >= intervalNanos) {
+                start = now;
+                count = 0;
+            }
+
+            if (count < maxEvents) {
+                count++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -19,5 +19,6 @@ public interface UserEventMapper {
     @Mapping(target = "userEmail", expression = "java(user.getEmail())")
     @Mapping(target = "userPassword", expression = "java(user.getPassword())")
     @Mapping(target = "eventType", source = "eventType")
+    @Mapping(target = "userAvatarUrl", expression = "java(user.getAvatarUrl())")
     UserEvent toUserEvent(User user, EventType eventType);
 }
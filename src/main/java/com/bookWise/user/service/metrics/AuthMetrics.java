@@ -0,0 +1,104 @@
+package com.bookWise.user.service.metrics;
+
+import com.bookWise.user.service.model.enums.UserTokenType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas do pipeline de autenticação. Todos os medidores são registrados na criação, um
+ * por combinação de tags, para que o caminho da requisição só faça {@code record}/{@code increment}.
+ * <p>
+ * Tags comuns: {@code type} (tipo do token), {@code result} (resultado da operação),
+ * {@code lookup} (chave da busca do usuário) e {@code cause} (motivo da rejeição).
+ * <p>
+ * No filtro de autenticação, validação e carga do usuário passam antes pelos caches de tokens
+ * verificados e de principals: {@code auth.token.validate} e {@code auth.user.load} só medem as
+ * faltas, e os acertos aparecem em {@code cache.gets{result=hit}} desses caches.
+ */
+@Component
+public class AuthMetrics {
+
+    public enum TokenValidation {
+        VALID, EXPIRED, MALFORMED, UNSUPPORTED, SIGNATURE, INVALID, ERROR
+    }
+
+    public enum UserLookup {
+        EMAIL, ID
+    }
+
+    public enum RejectionCause {
+        MISSING_TOKEN, INVALID_TOKEN, EXPIRED_TOKEN, MALFORMED_TOKEN, INVALID_SIGNATURE, USER_NOT_FOUND, ERROR
+    }
+
+    private final Map<UserTokenType, Timer> tokenIssueTimers = new EnumMap<>(UserTokenType.class);
+    private final Map<TokenValidation, Timer> tokenValidationTimers = new EnumMap<>(TokenValidation.class);
+    private final Map<UserLookup, Timer> userLoadFoundTimers = new EnumMap<>(UserLookup.class);
+    private final Map<UserLookup, Timer> userLoadNotFoundTimers = new EnumMap<>(UserLookup.class);
+    private final Map<RejectionCause, Counter> rejectionCounters = new EnumMap<>(RejectionCause.class);
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        for (UserTokenType type : UserTokenType.values()) {
+            tokenIssueTimers.put(type, Timer.builder("auth.token.issue")
+                    .description("Tempo de emissão de tokens JWT")
+                    .tag("type", tagValue(type))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+
+        for (TokenValidation result : TokenValidation.values()) {
+            tokenValidationTimers.put(result, Timer.builder("auth.token.validate")
+                    .description("Tempo de validação de tokens JWT (só faltas do cache de tokens verificados)")
+                    .tag("result", tagValue(result))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+
+        for (UserLookup lookup : UserLookup.values()) {
+            userLoadFoundTimers.put(lookup, userLoadTimer(meterRegistry, lookup, "found"));
+            userLoadNotFoundTimers.put(lookup, userLoadTimer(meterRegistry, lookup, "not_found"));
+        }
+
+        for (RejectionCause cause : RejectionCause.values()) {
+            rejectionCounters.put(cause, Counter.builder("auth.requests.rejected")
+                    .description("Requisições rejeitadas pelo filtro de autenticação")
+                    .tag("cause", tagValue(cause))
+                    .register(meterRegistry));
+        }
+    }
+
+    private static Timer userLoadTimer(MeterRegistry meterRegistry, UserLookup lookup, String result) {
+        return Timer.builder("auth.user.load")
+                .description("Tempo de carga do usuário autenticado (só faltas do cache de principals)")
+                .tag("lookup", tagValue(lookup))
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void recordTokenIssue(UserTokenType type, long nanos) {
+        tokenIssueTimers.get(type).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTokenValidation(TokenValidation result, long nanos) {
+        tokenValidationTimers.get(result).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUserLoad(UserLookup lookup, boolean found, long nanos) {
+        (found ? userLoadFoundTimers : userLoadNotFoundTimers).get(lookup).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRejection(RejectionCause cause) {
+        rejectionCounters.get(cause).increment();
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,73 @@
+package com.bookWise.user.service.metrics;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import ch.qos.logback.core.filter.Filter;
+import com.bookWise.user.service.logging.MeteredAsyncAppender;
+import com.bookWise.user.service.logging.RateLimitFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * Métricas dos appenders assíncronos configurados por
+ * {@link com.bookWise.user.service.logging.AsyncLoggingInitializer}: eventos descartados
+ * ({@code reason}: {@code discarded} ou {@code queue_full}), ocupação da fila e mensagens
+ * suprimidas pelo limite de taxa. A tag {@code appender} é o appender de destino
+ * ({@code console}, {@code file}).
+ */
+@Component
+public class LoggingMetrics {
+
+    public LoggingMetrics(MeterRegistry meterRegistry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+
+        RateLimitFilter rateLimitFilter = null;
+        Iterator<Appender<ILoggingEvent>> appenders = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (!(appenders.next() instanceof MeteredAsyncAppender async)) {
+                continue;
+            }
+
+            Iterator<Appender<ILoggingEvent>> targets = async.iteratorForAppenders();
+            String target = (targets.hasNext() ? targets.next().getName() : async.getName()).toLowerCase(Locale.ROOT);
+            FunctionCounter.builder("logging.events.dropped", async, MeteredAsyncAppender::getDiscardedCount)
+                    .description("Eventos de log descartados pelo appender assíncrono")
+                    .tag("appender", target)
+                    .tag("reason", "discarded")
+                    .register(meterRegistry);
+            FunctionCounter.builder("logging.events.dropped", async, MeteredAsyncAppender::getQueueFullCount)
+                    .description("Eventos de log descartados pelo appender assíncrono")
+                    .tag("appender", target)
+                    .tag("reason", "queue_full")
+                    .register(meterRegistry);
+            Gauge.builder("logging.queue.size", async, AsyncAppenderBase::getNumberOfElementsInQueue)
+                    .description("Eventos aguardando na fila do appender assíncrono")
+                    .tag("appender", target)
+                    .register(meterRegistry);
+
+            for (Filter<ILoggingEvent> filter : async.getCopyOfAttachedFiltersList()) {
+                if (filter instanceof RateLimitFilter rateLimit) {
+                    rateLimitFilter = rateLimit;
+                }
+            }
+        }
+
+        // o mesmo filtro é compartilhado por todos os appenders assíncronos
+        if (rateLimitFilter != null) {
+            FunctionCounter.builder("logging.events.suppressed", rateLimitFilter, RateLimitFilter::getSuppressedCount)
+                    .description("Mensagens de log repetitivas suprimidas pelo limite de taxa")
+                    .register(meterRegistry);
+        }
+    }
+}
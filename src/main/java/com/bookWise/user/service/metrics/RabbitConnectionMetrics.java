@@ -0,0 +1,103 @@
+package com.bookWise.user.service.metrics;
+
+import com.rabbitmq.client.BlockedListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.ChannelListener;
+import org.springframework.amqp.rabbit.connection.ConnectionListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Métricas das conexões com o RabbitMQ, separadas por papel da conexão
+ * ({@code publisher} ou {@code consumer}).
+ */
+@Slf4j
+@Component
+public class RabbitConnectionMetrics {
+    public static final String PUBLISHER = "publisher";
+    public static final String CONSUMER = "consumer";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer publisherCheckoutTimer;
+    private final Timer publishSuccessTimer;
+    private final Timer publishFailureTimer;
+    private final Timer publishBatchSuccessTimer;
+    private final Timer publishBatchFailureTimer;
+
+    public RabbitConnectionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.publisherCheckoutTimer = Timer.builder("rabbitmq.channel.checkout")
+                .description("Tempo de espera para obter um canal do pool")
+                .tag("connection", PUBLISHER)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.publishSuccessTimer = publishTimer("single", "success");
+        this.publishFailureTimer = publishTimer("single", "failure");
+        this.publishBatchSuccessTimer = publishTimer("batch", "success");
+        this.publishBatchFailureTimer = publishTimer("batch", "failure");
+    }
+
+    private Timer publishTimer(String mode, String result) {
+        return Timer.builder("rabbitmq.publish")
+                .description("Tempo de publicação de eventos, do checkout do canal ao envio")
+                .tag("connection", PUBLISHER)
+                .tag("mode", mode)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void recordPublisherCheckout(long nanos) {
+        publisherCheckoutTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordPublish(boolean batch, boolean success, long nanos) {
+        Timer timer = batch
+                ? (success ? publishBatchSuccessTimer : publishBatchFailureTimer)
+                : (success ? publishSuccessTimer : publishFailureTimer);
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public ChannelListener channelListener(String connection) {
+        Counter created = Counter.builder("rabbitmq.channel.created")
+                .description("Canais abertos no broker")
+                .tag("connection", connection)
+                .register(meterRegistry);
+
+        return (channel, transactional) -> created.increment();
+    }
+
+    public ConnectionListener connectionListener(String connection) {
+        Counter blocked = Counter.builder("rabbitmq.connection.blocked")
+                .description("Bloqueios de conexão por controle de fluxo do broker")
+                .tag("connection", connection)
+                .register(meterRegistry);
+
+        AtomicInteger blockedState = new AtomicInteger();
+        Gauge.builder("rabbitmq.connection.blocked.state", blockedState, AtomicInteger::get)
+                .description("1 enquanto a conexão está bloqueada pelo broker")
+                .tag("connection", connection)
+                .register(meterRegistry);
+
+        return newConnection -> newConnection.addBlockedListener(new BlockedListener() {
+            @Override
+            public void handleBlocked(String reason) {
+                blocked.increment();
+                blockedState.set(1);
+                log.warn("Conexão '{}' bloqueada pelo broker: {}", connection, reason);
+            }
+
+            @Override
+            public void handleUnblocked() {
+                blockedState.set(0);
+                log.info("Conexão '{}' desbloqueada pelo broker", connection);
+            }
+        });
+    }
+}
@@ -0,0 +1,4 @@
+package com.bookWise.user.service.model.dto;
+
+public record EmailAvailabilityDTO(String email, boolean available) {
+}
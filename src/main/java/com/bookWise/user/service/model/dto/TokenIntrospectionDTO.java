@@ -0,0 +1,12 @@
+package com.bookWise.user.service.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Resultado da introspecção de um token, nos nomes da RFC 7662 ({@code exp} em segundos desde
+ * a época). Um token inativo só traz {@code active: false}, sem dizer o motivo.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenIntrospectionDTO(boolean active, String sub, String uid, Long exp) {
+    public static final TokenIntrospectionDTO INACTIVE = new TokenIntrospectionDTO(false, null, null, null);
+}
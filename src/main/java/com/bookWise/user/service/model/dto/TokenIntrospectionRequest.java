@@ -0,0 +1,19 @@
+package com.bookWise.user.service.model.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenIntrospectionRequest {
+    @NotEmpty(message = "At least one token is required")
+    private List<@NotBlank String> tokens;
+}
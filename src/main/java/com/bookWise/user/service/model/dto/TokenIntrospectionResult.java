@@ -0,0 +1,9 @@
+package com.bookWise.user.service.model.dto;
+
+import java.util.List;
+
+/**
+ * Um resultado por token, na ordem da requisição.
+ */
+public record TokenIntrospectionResult(List<TokenIntrospectionDTO> tokens) {
+}
@@ -0,0 +1,7 @@
+package com.bookWise.user.service.model.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record UserBatchResult(List<UserSummaryDTO> users, List<UUID> missing) {
+}
@@ -0,0 +1,8 @@
+package com.bookWise.user.service.model.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record UserExportDTO(UUID id, String email, String name, String avatarUrl, Instant createdAt,
+                            Instant updatedAt, Instant lastLogin, boolean active, boolean emailVerified) {
+}
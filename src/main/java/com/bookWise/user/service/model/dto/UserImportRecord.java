@@ -0,0 +1,4 @@
+package com.bookWise.user.service.model.dto;
+
+public record UserImportRecord(String email, String name, String password, String avatarUrl, String bio) {
+}
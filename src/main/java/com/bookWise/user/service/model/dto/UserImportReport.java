@@ -0,0 +1,5 @@
+package com.bookWise.user.service.model.dto;
+
+public record UserImportReport(long received, long imported, long duplicates, long invalid,
+                               long elapsedMs, long usersPerSecond) {
+}
@@ -0,0 +1,17 @@
+package com.bookWise.user.service.model.dto;
+
+import com.bookWise.user.service.model.entity.User;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record UserProfileDTO(UUID id, String email, String name, String avatarUrl, String bio, Instant createdAt,
+                             Instant updatedAt, Instant lastLogin, boolean active, boolean emailVerified,
+                             long version) {
+
+    public static UserProfileDTO from(User user) {
+        return new UserProfileDTO(user.getId(), user.getEmail(), user.getName(), user.getAvatarUrl(), user.getBio(),
+                user.getCreatedAt(), user.getUpdatedAt(), user.getLastLogin(), user.isActive(),
+                user.isEmailVerified(), user.getVersion());
+    }
+}
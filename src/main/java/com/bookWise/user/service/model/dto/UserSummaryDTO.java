@@ -0,0 +1,6 @@
+package com.bookWise.user.service.model.dto;
+
+import java.util.UUID;
+
+public record UserSummaryDTO(UUID id, String name, String avatarUrl) {
+}
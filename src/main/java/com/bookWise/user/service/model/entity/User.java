@@ -5,6 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.LazyGroup;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,23 +18,32 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.io.Serial;
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.Locale;
 import java.util.UUID;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id")
+})
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 public class User implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    public static final String CACHE_REGION = "users";
+    public static final String NATURAL_ID_CACHE_REGION = "users-by-email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
+    @NaturalId(mutable = true)
     @Column(unique = true, nullable = false, length = 100)
     private String email;
 
@@ -38,8 +53,14 @@ public class User implements Serializable {
     @Column(nullable = false, length = 100)
     private String name;
 
+    // campos de perfil carregados sob demanda (enhancement do Hibernate no build):
+    // o caminho de autenticação não os usa e o bio pode ser grande
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("profile")
     private String avatarUrl;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("profile")
     @Column(columnDefinition = "TEXT")
     private String bio;
 
@@ -50,12 +71,30 @@ public class User implements Serializable {
     @LastModifiedDate
     private Instant updatedAt = Instant.now();
 
+    // gravado em lote pelo LastLoginTracker, fora do ciclo de vida da entidade
+    @Column(updatable = false)
     private Instant lastLogin;
 
     private boolean isActive = true;
 
     private boolean emailVerified = false;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    /**
+     * O e-mail é a chave natural do usuário e é sempre gravado normalizado (minúsculo,
+     * sem espaços), para que a busca pela chave natural dispense comparação case-insensitive.
+     */
+    public void setEmail(String email) {
+        this.email = normalizeEmail(email);
+    }
+
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
     public void markLoginSuccess() {
         this.lastLogin = Instant.now();
     }
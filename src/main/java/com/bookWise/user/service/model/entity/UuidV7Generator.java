@@ -0,0 +1,18 @@
+package com.bookWise.user.service.model.entity;
+
+import com.bookWise.user.service.util.UuidV7;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.util.UUID;
+
+/**
+ * Gera as chaves primárias UUID das entidades como UUIDv7, ordenadas pelo instante de criação.
+ */
+public class UuidV7Generator implements UuidValueGenerator {
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return UuidV7.randomUuid();
+    }
+}
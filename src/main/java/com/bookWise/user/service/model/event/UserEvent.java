@@ -8,5 +8,5 @@ import java.io.Serializable;
 import java.util.UUID;
 
 public record UserEvent(UUID userId, String userName, String userEmail, String userPassword,
-                        @Enumerated(EnumType.STRING) EventType eventType) implements Serializable {
+                        @Enumerated(EnumType.STRING) EventType eventType, String userAvatarUrl) implements Serializable {
 }
@@ -1,5 +1,11 @@
 package com.bookWise.user.service.publisher;
 
+import java.util.Collection;
+
 public interface EventPublisher<T> {
     void publish(T event);
+
+    default void publishAll(Collection<T> events) {
+        events.forEach(this::publish);
+    }
 }
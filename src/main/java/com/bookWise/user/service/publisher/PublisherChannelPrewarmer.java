@@ -0,0 +1,54 @@
+package com.bookWise.user.service.publisher;
+
+import com.bookWise.user.service.config.RabbitPublisherProperties;
+import com.rabbitmq.client.Channel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Abre os canais de publicação na subida da aplicação e os devolve ao cache,
+ * para que nenhuma requisição pague a abertura de conexão ou de canal.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublisherChannelPrewarmer {
+
+    private final CachingConnectionFactory publisherConnectionFactory;
+    private final RabbitPublisherProperties publisherProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarm() {
+        int size = publisherProperties.getPrewarmChannels();
+        if (size == 0) {
+            return;
+        }
+
+        List<Channel> channels = new ArrayList<>(size);
+        try {
+            Connection connection = publisherConnectionFactory.createConnection();
+            for (int i = 0; i < size; i++) {
+                channels.add(connection.createChannel(false));
+            }
+            log.info("Pool de canais de publicação aquecido com {} canais", size);
+        } catch (Exception e) {
+            log.warn("Não foi possível aquecer o pool de canais de publicação: {}", e.getMessage());
+        } finally {
+            for (Channel channel : channels) {
+                try {
+                    channel.close();
+                } catch (Exception e) {
+                    log.debug("Erro ao devolver canal ao pool: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
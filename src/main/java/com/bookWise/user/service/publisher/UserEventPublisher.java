@@ -2,13 +2,17 @@ package com.bookWise.user.service.publisher;
 
 import com.bookWise.user.service.config.RabbitConfig;
 import com.bookWise.user.service.exception.EventPublishException;
+import com.bookWise.user.service.jfr.EventPublishEvent;
+import com.bookWise.user.service.metrics.RabbitConnectionMetrics;
 import com.bookWise.user.service.model.event.UserEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.UUID;
 
 @Slf4j
@@ -17,28 +21,84 @@ import java.util.UUID;
 public class UserEventPublisher implements EventPublisher<UserEvent> {
 
     private final RabbitTemplate rabbitTemplate;
+    private final RabbitConnectionMetrics connectionMetrics;
 
     @Override
     public void publish(UserEvent event) {
+        EventPublishEvent publishEvent = startPublishEvent("single", 1);
+        long checkoutStart = System.nanoTime();
         try {
             CorrelationData correlationData = new CorrelationData(UUID.randomUUID().toString());
 
-            rabbitTemplate.convertAndSend(
-                    RabbitConfig.USER_EXCHANGE,
-                    "user.event",
-                    event,
-                    message -> {
-                        message.getMessageProperties().setCorrelationId(correlationData.getId());
-                        return message;
-                    },
-                    correlationData
-            );
+            rabbitTemplate.invoke(operations -> {
+                connectionMetrics.recordPublisherCheckout(System.nanoTime() - checkoutStart);
+                send(operations, event, correlationData);
+                return null;
+            });
+            connectionMetrics.recordPublish(false, true, System.nanoTime() - checkoutStart);
+            publishEvent.finish("SUCCESS");
 
-            log.info("Evento de usuário publicado com sucesso. ID de correlação: {}", correlationData.getId());
+            // o timer rabbitmq.publish já conta as publicações; a linha por evento só interessa depurando
+            log.atDebug().addKeyValue("correlationId", correlationData.getId()).log("Evento de usuário publicado");
 
         } catch (Exception e) {
+            connectionMetrics.recordPublish(false, false, System.nanoTime() - checkoutStart);
+            publishEvent.finish("FAILURE");
             log.error("Erro ao publicar evento de usuário: {}", event.userId(), e);
             throw new EventPublishException("Falha ao publicar evento de usuário", e);
         }
     }
+
+    /**
+     * Publica todos os eventos no mesmo canal, pagando um único checkout do pool.
+     */
+    @Override
+    public void publishAll(Collection<UserEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        EventPublishEvent publishEvent = startPublishEvent("batch", events.size());
+        long checkoutStart = System.nanoTime();
+        try {
+            rabbitTemplate.invoke(operations -> {
+                connectionMetrics.recordPublisherCheckout(System.nanoTime() - checkoutStart);
+                for (UserEvent event : events) {
+                    send(operations, event, new CorrelationData(UUID.randomUUID().toString()));
+                }
+                return null;
+            });
+            connectionMetrics.recordPublish(true, true, System.nanoTime() - checkoutStart);
+            publishEvent.finish("SUCCESS");
+
+            log.info("Lote de {} eventos de usuário publicado com sucesso", events.size());
+
+        } catch (Exception e) {
+            connectionMetrics.recordPublish(true, false, System.nanoTime() - checkoutStart);
+            publishEvent.finish("FAILURE");
+            log.error("Erro ao publicar lote de {} eventos de usuário", events.size(), e);
+            throw new EventPublishException("Falha ao publicar lote de eventos de usuário", e);
+        }
+    }
+
+    private static EventPublishEvent startPublishEvent(String mode, int events) {
+        EventPublishEvent publishEvent = new EventPublishEvent();
+        publishEvent.mode = mode;
+        publishEvent.events = events;
+        publishEvent.begin();
+        return publishEvent;
+    }
+
+    private void send(RabbitOperations operations, UserEvent event, CorrelationData correlationData) {
+        operations.convertAndSend(
+                RabbitConfig.USER_EXCHANGE,
+                "user.event",
+                event,
+                message -> {
+                    message.getMessageProperties().setCorrelationId(correlationData.getId());
+                    return message;
+                },
+                correlationData
+        );
+    }
 }
@@ -0,0 +1,11 @@
+package com.bookWise.user.service.repository;
+
+import com.bookWise.user.service.model.entity.User;
+
+import java.util.Optional;
+
+public interface UserNaturalIdRepository {
+    Optional<User> findByEmailIgnoreCase(String email);
+
+    Optional<User> findByEmailBypassingCache(String email);
+}
@@ -0,0 +1,55 @@
+package com.bookWise.user.service.repository;
+
+import com.bookWise.user.service.model.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.Optional;
+
+/**
+ * Busca por e-mail através da chave natural, servida pelos caches de segundo nível
+ * ({@code users-by-email} resolve o id, {@code users} devolve a entidade). Os e-mails no
+ * banco estão normalizados ({@link com.bookWise.user.service.service.EmailNormalizationMigration}),
+ * então uma falha no cache é uma consulta pelo índice único.
+ * <p>
+ * Os caches são locais a cada instância e não são invalidados quando outra instância altera o
+ * usuário: quem decide com o hash da senha usa {@link #findByEmailBypassingCache}.
+ */
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByEmailIgnoreCase(String email) {
+        String normalized = User.normalizeEmail(email);
+        if (normalized == null) {
+            return Optional.empty();
+        }
+
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(normalized);
+    }
+
+    /**
+     * Lê o usuário do banco, sem consultar o cache de segundo nível, e grava o estado lido no
+     * cache desta instância ({@link CacheMode#REFRESH}).
+     */
+    @Override
+    public Optional<User> findByEmailBypassingCache(String email) {
+        String normalized = User.normalizeEmail(email);
+        if (normalized == null) {
+            return Optional.empty();
+        }
+
+        return entityManager.createQuery("select u from User u where u.email = :email", User.class)
+                .setParameter("email", normalized)
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.REFRESH)
+                .getResultStream()
+                .findFirst();
+    }
+}
@@ -1,13 +1,57 @@
 package com.bookWise.user.service.repository;
 
+import com.bookWise.user.service.model.dto.UserExportDTO;
+import com.bookWise.user.service.model.dto.UserProfileDTO;
+import com.bookWise.user.service.model.dto.UserSummaryDTO;
 import com.bookWise.user.service.model.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
-    Optional<User> findByEmailIgnoreCase(String email);
+public interface UserRepository extends JpaRepository<User, UUID>, UserNaturalIdRepository {
+    @Query("select new com.bookWise.user.service.model.dto.UserSummaryDTO(u.id, u.name, u.avatarUrl) " +
+            "from User u where u.id in :ids")
+    List<UserSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // bio e avatar são carregados sob demanda e não vêm da entidade em cache: a projeção lê tudo numa consulta
+    @Query("select new com.bookWise.user.service.model.dto.UserProfileDTO(u.id, u.email, u.name, u.avatarUrl, " +
+            "u.bio, u.createdAt, u.updatedAt, u.lastLogin, u.isActive, u.emailVerified, u.version) " +
+            "from User u where u.id = :id")
+    Optional<UserProfileDTO> findProfileById(@Param("id") UUID id);
+
+    // sem passar pela entidade em cache, que pode estar desatualizada se outra instância alterou o usuário
+    @Query("select u.version from User u where u.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select u.email from User u")
+    Stream<String> streamAllEmails();
+
+    // e-mails são gravados normalizados (User#setEmail), então a consulta usa o índice único
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select new com.bookWise.user.service.model.dto.UserExportDTO(u.id, u.email, u.name, u.avatarUrl, " +
+            "u.createdAt, u.updatedAt, u.lastLogin, u.isActive, u.emailVerified) " +
+            "from User u order by u.createdAt, u.id")
+    List<UserExportDTO> findExportPage(Limit limit);
+
+    @Query("select new com.bookWise.user.service.model.dto.UserExportDTO(u.id, u.email, u.name, u.avatarUrl, " +
+            "u.createdAt, u.updatedAt, u.lastLogin, u.isActive, u.emailVerified) " +
+            "from User u where u.createdAt > :createdAt or (u.createdAt = :createdAt and u.id > :id) " +
+            "order by u.createdAt, u.id")
+    List<UserExportDTO> findExportPageAfter(@Param("createdAt") Instant createdAt, @Param("id") UUID id, Limit limit);
 }
@@ -0,0 +1,32 @@
+package com.bookWise.user.service.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collection;
+
+/**
+ * Chaves de serviços internos, usadas pelos endpoints em {@code /internal/**} no lugar de um
+ * token de usuário.
+ */
+public final class ClientKeys {
+
+    private ClientKeys() {
+    }
+
+    /**
+     * Compara em tempo constante e contra todas as chaves, para não vazar qual chegou perto.
+     * Sem chaves configuradas nenhum cliente é aceito.
+     */
+    public static boolean matches(String presented, Collection<String> keys) {
+        if (presented == null) {
+            return false;
+        }
+
+        byte[] bytes = presented.getBytes(StandardCharsets.UTF_8);
+        boolean authorized = false;
+        for (String key : keys) {
+            authorized |= MessageDigest.isEqual(bytes, key.getBytes(StandardCharsets.UTF_8));
+        }
+        return authorized;
+    }
+}
@@ -1,6 +1,9 @@
 package com.bookWise.user.service.security;
 
 import com.bookWise.user.service.exception.ResourceNotFoundException;
+import com.bookWise.user.service.jfr.UserLoadEvent;
+import com.bookWise.user.service.metrics.AuthMetrics;
+import com.bookWise.user.service.metrics.AuthMetrics.UserLookup;
 import com.bookWise.user.service.model.entity.User;
 import com.bookWise.user.service.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +14,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -19,27 +23,41 @@ import java.util.UUID;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final AuthMetrics authMetrics;
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         log.debug("Tentando carregar usuário com e-mail: {}", email);
 
-        User user = userRepository.findByEmailIgnoreCase(email)
-                .orElseThrow(() -> {
-                    log.warn("Usuário com e-mail '{}' não encontrado", email);
-                    return new UsernameNotFoundException("Usuário não encontrado com o e-mail: " + email);
-                });
+        UserLoadEvent loadEvent = new UserLoadEvent();
+        loadEvent.begin();
+        long start = System.nanoTime();
+        Optional<User> found = userRepository.findByEmailIgnoreCase(email);
+        authMetrics.recordUserLoad(UserLookup.EMAIL, found.isPresent(), System.nanoTime() - start);
+        finish(loadEvent, UserLookup.EMAIL, found.isPresent());
+
+        User user = found.orElseThrow(() -> {
+            log.warn("Usuário com e-mail '{}' não encontrado", email);
+            return new UsernameNotFoundException("Usuário não encontrado com o e-mail: " + email);
+        });
 
         log.debug("Usuário carregado com sucesso: {}", email);
         return UserPrincipal.create(user);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public UserDetails loadUserById(String id) {
         log.debug("Carregando usuário por ID: {}", id);
 
-        User user = userRepository.findById(UUID.fromString(id)).orElseThrow(
+        UserLoadEvent loadEvent = new UserLoadEvent();
+        loadEvent.begin();
+        long start = System.nanoTime();
+        Optional<User> found = userRepository.findById(UUID.fromString(id));
+        authMetrics.recordUserLoad(UserLookup.ID, found.isPresent(), System.nanoTime() - start);
+        finish(loadEvent, UserLookup.ID, found.isPresent());
+
+        User user = found.orElseThrow(
             () -> {
                 log.error("Usuário não encontrado com ID: {}", id);
                 return new ResourceNotFoundException("Usuário", "id", id);
@@ -49,4 +67,9 @@ public class CustomUserDetailsService implements UserDetailsService {
         log.debug("Usuário carregado por ID com sucesso: {}", id);
         return UserPrincipal.create(user);
     }
+
+    private static void finish(UserLoadEvent loadEvent, UserLookup lookup, boolean found) {
+        loadEvent.lookup = lookup.name();
+        loadEvent.finish(found ? "FOUND" : "NOT_FOUND");
+    }
 }
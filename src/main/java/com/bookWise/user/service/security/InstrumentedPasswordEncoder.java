@@ -0,0 +1,41 @@
+package com.bookWise.user.service.security;
+
+import com.bookWise.user.service.jfr.PasswordHashEvent;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Emite um {@link PasswordHashEvent} por codificação e por verificação de senha, em volta do
+ * encoder real.
+ */
+public class InstrumentedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+
+    public InstrumentedPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        PasswordHashEvent hashEvent = new PasswordHashEvent();
+        hashEvent.operation = "encode";
+        hashEvent.begin();
+        String encoded = delegate.encode(rawPassword);
+        hashEvent.finish("ENCODED");
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        PasswordHashEvent hashEvent = new PasswordHashEvent();
+        hashEvent.operation = "matches";
+        hashEvent.begin();
+        boolean matches = delegate.matches(rawPassword, encodedPassword);
+        hashEvent.finish(matches ? "MATCH" : "MISMATCH");
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -1,26 +1,26 @@
 package com.bookWise.user.service.security;
 
-import com.bookWise.user.service.exception.TokenValidationException;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.SignatureException;
+import com.bookWise.user.service.config.UserCacheProperties;
+import com.bookWise.user.service.logging.RateLimitFilter;
+import com.bookWise.user.service.metrics.AuthMetrics;
+import com.bookWise.user.service.metrics.AuthMetrics.RejectionCause;
+import com.bookWise.user.service.metrics.AuthMetrics.TokenValidation;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.http.HttpHeaders;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
 
@@ -28,29 +28,43 @@ import java.io.IOException;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private boolean isPublicEndpoint(String requestURI) {
-        return requestURI.startsWith("/api/v1/v3/api-docs") ||
-               requestURI.startsWith("/api/v1/swagger-ui") ||
-               "/api/v1/swagger-ui.html".equals(requestURI) ||
-               "/actuator/health".equals(requestURI) ||
-               "/users/register".equals(requestURI) ||
-               "/auth/login".equals(requestURI) ||
-               "/auth/refresh".equals(requestURI);
+    private static final WebAuthenticationDetailsSource DETAILS_SOURCE = new WebAuthenticationDetailsSource();
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final PrincipalCache principalCache;
+    private final AuthMetrics authMetrics;
+    private final PublicRoutes publicRoutes;
+    private final UnauthorizedResponseWriter unauthorizedResponseWriter = new UnauthorizedResponseWriter();
+
+    @Autowired
+    public JwtAuthenticationFilter(TokenProvider tokenProvider,
+                                 UserCacheProperties cacheProperties,
+                                 MeterRegistry meterRegistry,
+                                 PrincipalCache principalCache,
+                                 AuthMetrics authMetrics,
+                                 PublicRoutes publicRoutes) {
+        this(new VerifiedTokenCache(tokenProvider, "authenticationTokens",
+                        cacheProperties.getVerifiedToken().getMaximumSize(),
+                        cacheProperties.getVerifiedToken().getTimeToLive(), meterRegistry),
+                principalCache, authMetrics, publicRoutes);
     }
 
-    private final JwtProvider jwtProvider;
-    private final CustomUserDetailsService userDetailsService;
-    private final HandlerExceptionResolver resolver;
+    JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache,
+                            PrincipalCache principalCache,
+                            AuthMetrics authMetrics,
+                            PublicRoutes publicRoutes) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.principalCache = principalCache;
+        this.authMetrics = authMetrics;
+        this.publicRoutes = publicRoutes;
+    }
 
-    public JwtAuthenticationFilter(JwtProvider jwtProvider, 
-                                 CustomUserDetailsService userDetailsService, 
-                                 @Qualifier("handlerExceptionResolver") HandlerExceptionResolver resolver) {
-        this.jwtProvider = jwtProvider;
-        this.userDetailsService = userDetailsService;
-        this.resolver = resolver;
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return publicRoutes.matches(request);
     }
 
-    private String getJwtFromRequest(HttpServletRequest request) {
+    String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
@@ -58,6 +72,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
+    /**
+     * Requisições rejeitadas não lançam exceção: o motivo vem de {@link TokenValidationResult}
+     * e a resposta 401 é escrita aqui mesmo por {@link UnauthorizedResponseWriter}.
+     * <p>
+     * Um cliente repete o mesmo token a cada requisição: a verificação vem de
+     * {@link VerifiedTokenCache} e o principal de {@link PrincipalCache}, e o caminho comum só
+     * aloca o token extraído do cabeçalho, os detalhes da requisição e a autenticação.
+     * <p>
+     * Por isso {@code auth.token.validate}, {@code auth.user.load} e os eventos JFR TokenParse e
+     * UserLoad só medem as faltas desses caches; os acertos estão em {@code cache.gets} com
+     * {@code cache=authenticationTokens} e {@code cache=principals}.
+     */
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
@@ -65,54 +91,60 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain) throws ServletException, IOException {
         
         String requestURI = request.getRequestURI();
-        log.debug("Processando requisição para: {}", requestURI);
+        log.atDebug().addKeyValue("uri", requestURI).log("Processando requisição");
 
-        if (isPublicEndpoint(requestURI)) {
-            log.debug("Rota pública acessada: {}", requestURI);
-            filterChain.doFilter(request, response);
+        String jwt = getJwtFromRequest(request);
+        if (jwt == null) {
+            reject(response, RejectionCause.MISSING_TOKEN, requestURI);
             return;
         }
 
+        TokenValidationResult validation = verifiedTokenCache.validate(jwt);
+        if (!validation.isValid()) {
+            reject(response, rejectionCause(validation.status()), requestURI);
+            return;
+        }
+
+        String username = validation.claims().getSubject();
+        UserDetails userDetails;
         try {
-            String jwt = getJwtFromRequest(request);
-            if (jwt == null) {
-                throw new TokenValidationException("Token JWT não fornecido");
-            }
-            
-            if (jwtProvider.validateToken(jwt)) {
-                String username = jwtProvider.getUsernameFromJWT(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("Usuário autenticado: {}", username);
-                
-                filterChain.doFilter(request, response);
-            } else {
-                throw new TokenValidationException("Token JWT inválido");
-            }
-            
-        } catch (ExpiredJwtException ex) {
-            log.error("Token JWT expirado: {}", ex.getMessage());
-            resolver.resolveException(request, response, null, 
-                new TokenValidationException("Sessão expirada. Faça login novamente."));
-                
-        } catch (UnsupportedJwtException | MalformedJwtException | SignatureException ex) {
-            log.error("Token JWT inválido: {}", ex.getMessage());
-            resolver.resolveException(request, response, null, 
-                new TokenValidationException("Token inválido"));
-                
-        } catch (TokenValidationException ex) {
-            log.error("Erro de validação do token: {}", ex.getMessage());
-            resolver.resolveException(request, response, null, ex);
-            
+            userDetails = principalCache.get(username);
+        } catch (UsernameNotFoundException ex) {
+            reject(response, RejectionCause.USER_NOT_FOUND, requestURI);
+            return;
         } catch (Exception ex) {
             log.error("Erro ao processar autenticação: {}", ex.getMessage(), ex);
-            resolver.resolveException(request, response, null,
-                new TokenValidationException("Erro interno na autenticação"));
+            reject(response, RejectionCause.ERROR, requestURI);
+            return;
         }
+
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                userDetails, null, userDetails.getAuthorities());
+        authentication.setDetails(DETAILS_SOURCE.buildDetails(request));
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        log.atDebug().addKeyValue("username", username).log("Usuário autenticado");
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static RejectionCause rejectionCause(TokenValidation status) {
+        return switch (status) {
+            case EXPIRED -> RejectionCause.EXPIRED_TOKEN;
+            case MALFORMED, UNSUPPORTED -> RejectionCause.MALFORMED_TOKEN;
+            case SIGNATURE -> RejectionCause.INVALID_SIGNATURE;
+            case ERROR -> RejectionCause.ERROR;
+            case VALID, INVALID -> RejectionCause.INVALID_TOKEN;
+        };
+    }
+
+    private void reject(HttpServletResponse response, RejectionCause cause, String requestURI) throws IOException {
+        authMetrics.recordRejection(cause);
+        log.atWarn()
+                .addMarker(RateLimitFilter.RATE_LIMITED)
+                .addKeyValue("cause", cause)
+                .addKeyValue("uri", requestURI)
+                .log("Requisição rejeitada na autenticação");
+        unauthorizedResponseWriter.write(response, cause);
     }
 }
@@ -1,6 +1,11 @@
 package com.bookWise.user.service.security;
 
 import com.bookWise.user.service.config.JwtProperties;
+import com.bookWise.user.service.jfr.TokenParseEvent;
+import com.bookWise.user.service.jfr.TokenSignEvent;
+import com.bookWise.user.service.logging.RateLimitFilter;
+import com.bookWise.user.service.metrics.AuthMetrics;
+import com.bookWise.user.service.metrics.AuthMetrics.TokenValidation;
 import com.bookWise.user.service.model.entity.User;
 import com.bookWise.user.service.model.entity.UserToken;
 import com.bookWise.user.service.model.enums.UserTokenType;
@@ -14,8 +19,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -31,11 +38,16 @@ public class JwtProvider implements TokenProvider {
     public static final String CLAIM_KEY_ISSUED_AT = "iat";
     public static final String CLAIM_KEY_JTI = "jti";
 
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+    private static final int COMPACT_ID_LENGTH = 22;
+
     private final JwtProperties jwtProperties;
     private final UserAuthRepository userAuthRepository;
+    private final AuthMetrics authMetrics;
 
     private Key key;
     private JwtParser jwtParser;
+    private boolean compact;
 
     @PostConstruct
     protected void init() {
@@ -53,6 +65,7 @@ public class JwtProvider implements TokenProvider {
         this.jwtParser = Jwts.parserBuilder()
                 .setSigningKey(key)
                 .build();
+        this.compact = jwtProperties.getTokenFormat() == JwtProperties.TokenFormat.COMPACT;
 
         log.info("JwtProvider inicializado com sucesso.");
     }
@@ -60,7 +73,7 @@ public class JwtProvider implements TokenProvider {
     @Override
     public String generateAccessToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put(CLAIM_KEY_USER_ID, user.getId().toString());
+        claims.put(CLAIM_KEY_USER_ID, encodeId(user.getId()));
 
         return buildToken(claims, user, UserTokenType.ACCESS);
     }
@@ -68,7 +81,7 @@ public class JwtProvider implements TokenProvider {
     @Override
     public String generateRefreshToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put(CLAIM_KEY_USER_ID, user.getId().toString());
+        claims.put(CLAIM_KEY_USER_ID, encodeId(user.getId()));
         claims.put(CLAIM_KEY_TYPE, UserTokenType.REFRESH.name().toLowerCase());
 
         return buildToken(claims, user, UserTokenType.REFRESH);
@@ -80,20 +93,28 @@ public class JwtProvider implements TokenProvider {
                 jwtProperties.getRefreshTokenExpirationMs() :
                 jwtProperties.getAccessTokenExpirationMs();
 
-        claims.put(CLAIM_KEY_ISSUED_AT, new Date(now));
+        if (!compact) {
+            claims.put(CLAIM_KEY_ISSUED_AT, new Date(now));
+        }
 
-        String tokenId = UUID.randomUUID().toString();
-        claims.put(CLAIM_KEY_JTI, tokenId);
+        // setId grava o claim jti
+        String tokenId = encodeId(UUID.randomUUID());
 
         log.debug("Gerando token do tipo {} para o usuário: {}", tokenType, user.getEmail());
 
+        TokenSignEvent signEvent = new TokenSignEvent();
+        signEvent.begin();
+        long start = System.nanoTime();
         String token = Jwts.builder()
                 .setClaims(claims)
                 .setSubject(user.getEmail())
                 .setExpiration(new Date(now + expirationMs))
                 .setId(tokenId)
-                .signWith(key, SignatureAlgorithm.HS512)
+                .signWith(key, compact ? SignatureAlgorithm.HS256 : SignatureAlgorithm.HS512)
                 .compact();
+        authMetrics.recordTokenIssue(tokenType, System.nanoTime() - start);
+        signEvent.tokenType = tokenType.name();
+        signEvent.finish("SIGNED");
 
         saveUserToken(user, token, tokenType, new Date(now + expirationMs));
 
@@ -101,30 +122,58 @@ public class JwtProvider implements TokenProvider {
     }
 
     @Override
-    public boolean validateToken(String token) {
+    public TokenValidationResult validate(String token) {
+        TokenParseEvent parseEvent = new TokenParseEvent();
+        parseEvent.begin();
+        long start = System.nanoTime();
+        TokenValidationResult result = TokenValidationResult.rejected(TokenValidation.INVALID);
         try {
-            if (!StringUtils.hasText(token) || token.split("\\.").length != 3) {
-                log.warn("Token JWT inválido: formato incorreto");
-                return false;
+            if (!hasJwsShape(token)) {
+                result = TokenValidationResult.rejected(TokenValidation.MALFORMED);
+                return result;
             }
 
-            jwtParser.parseClaimsJws(token);
-            return true;
+            // o jjwt sinaliza rejeições com exceções; daqui para fora elas viram valores
+            result = TokenValidationResult.valid(jwtParser.parseClaimsJws(token).getBody());
+            return result;
         } catch (ExpiredJwtException ex) {
-            log.warn("Token JWT expirado: {}", ex.getMessage());
+            result = TokenValidationResult.rejected(TokenValidation.EXPIRED);
         } catch (UnsupportedJwtException ex) {
-            log.warn("Token JWT não suportado: {}", ex.getMessage());
+            result = TokenValidationResult.rejected(TokenValidation.UNSUPPORTED);
         } catch (MalformedJwtException ex) {
-            log.warn("Token JWT inválido: {}", ex.getMessage());
+            result = TokenValidationResult.rejected(TokenValidation.MALFORMED);
         } catch (SignatureException ex) {
-            log.warn("Assinatura JWT inválida: {}", ex.getMessage());
+            result = TokenValidationResult.rejected(TokenValidation.SIGNATURE);
         } catch (IllegalArgumentException ex) {
-            log.warn("Token JWT está vazio ou contém um argumento inválido: {}", ex.getMessage());
+            // token vazio ou com argumento inválido
         } catch (Exception ex) {
             log.error("Erro ao validar o token JWT: {}", ex.getMessage(), ex);
+            result = TokenValidationResult.rejected(TokenValidation.ERROR);
+        } finally {
+            authMetrics.recordTokenValidation(result.status(), System.nanoTime() - start);
+            parseEvent.finish(result.status().name());
+            if (!result.isValid() && result.status() != TokenValidation.ERROR) {
+                // numa enxurrada de tokens inválidos esta linha repete a cada requisição: o motivo
+                // vai como campo estruturado e a mensagem fixa é limitada por RateLimitFilter
+                log.atWarn().addMarker(RateLimitFilter.RATE_LIMITED).addKeyValue("result", result.status())
+                        .log("Token JWT rejeitado");
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Três partes separadas por ponto, sem o {@code split} que alocava um array por requisição.
+     */
+    private static boolean hasJwsShape(String token) {
+        if (!StringUtils.hasText(token)) {
+            return false;
         }
 
-        return false;
+        int first = token.indexOf('.');
+        int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+        return first > 0 && second > first + 1 && second < token.length() - 1 && token.indexOf('.', second + 1) < 0;
     }
 
     @Override
@@ -134,7 +183,31 @@ public class JwtProvider implements TokenProvider {
 
     @Override
     public String getUserIdFromJWT(String token) {
-        return getClaimFromToken(token, claims -> claims.get(CLAIM_KEY_USER_ID, String.class));
+        return getClaimFromToken(token, JwtProvider::userId);
+    }
+
+    /**
+     * Id do usuário em texto, nos dois formatos de token: UUID em texto ou 16 bytes em base64url.
+     */
+    public static String userId(Claims claims) {
+        String userId = claims.get(CLAIM_KEY_USER_ID, String.class);
+        if (userId == null || userId.length() != COMPACT_ID_LENGTH) {
+            return userId;
+        }
+
+        ByteBuffer bytes = ByteBuffer.wrap(Base64.getUrlDecoder().decode(userId));
+        return new UUID(bytes.getLong(), bytes.getLong()).toString();
+    }
+
+    private String encodeId(UUID id) {
+        if (!compact) {
+            return id.toString();
+        }
+
+        ByteBuffer bytes = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return BASE64URL.encodeToString(bytes.array());
     }
 
     @Override
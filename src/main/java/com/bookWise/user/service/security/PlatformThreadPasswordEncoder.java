@@ -0,0 +1,62 @@
+package com.bookWise.user.service.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Com threads virtuais, executa o hash de senha (BCrypt, dezenas de milissegundos de CPU) num
+ * pool de threads de plataforma. Uma thread virtual não é preemptada: um hash em andamento
+ * ocuparia a thread portadora e atrasaria todas as requisições montadas nela. Assim a thread
+ * virtual só espera, e o sistema operacional reparte a CPU entre os hashes e o resto.
+ * Chamadas de threads de plataforma seguem direto para o encoder.
+ */
+public class PlatformThreadPasswordEncoder implements PasswordEncoder, AutoCloseable {
+    private final PasswordEncoder delegate;
+    private final ExecutorService hashingPool;
+
+    public PlatformThreadPasswordEncoder(PasswordEncoder delegate, int threads) {
+        this.delegate = delegate;
+        this.hashingPool = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("password-hash-", 0).daemon().factory());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return offload(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return offload(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T offload(Supplier<T> hashing) {
+        if (!Thread.currentThread().isVirtual()) {
+            return hashing.get();
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(hashing, hashingPool).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        hashingPool.shutdown();
+    }
+}
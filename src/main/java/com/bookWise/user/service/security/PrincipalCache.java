@@ -0,0 +1,121 @@
+package com.bookWise.user.service.security;
+
+import com.bookWise.user.service.config.UserCacheProperties;
+import com.bookWise.user.service.model.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * {@link UserPrincipal}s já carregados, por e-mail normalizado, para que uma requisição
+ * autenticada não abra transação nem monte a entidade a partir do cache de segundo nível só
+ * para criar o mesmo principal imutável de novo.
+ * <p>
+ * Alterações e exclusões de {@link User} removem o principal depois do commit. Um carregamento
+ * que leu o estado anterior e termina depois da remoção ainda pode gravar o principal antigo:
+ * {@code users.cache.principal.time-to-live} limita esse atraso.
+ */
+@Component
+public class PrincipalCache {
+    private final CustomUserDetailsService userDetailsService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Cache<String, UserDetails> principals;
+
+    public PrincipalCache(CustomUserDetailsService userDetailsService, EntityManagerFactory entityManagerFactory,
+                          UserCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.userDetailsService = userDetailsService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getPrincipal().getMaximumSize())
+                .expireAfterWrite(cacheProperties.getPrincipal().getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+    }
+
+    @PostConstruct
+    void registerInvalidation() {
+        EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        Invalidation invalidation = new Invalidation();
+        listeners.appendListeners(EventType.POST_COMMIT_UPDATE, invalidation);
+        listeners.appendListeners(EventType.POST_COMMIT_DELETE, invalidation);
+    }
+
+    /**
+     * @throws UsernameNotFoundException se não houver usuário com o e-mail; ausências não são guardadas
+     */
+    public UserDetails get(String email) {
+        String key = User.normalizeEmail(email);
+        UserDetails principal = principals.getIfPresent(key);
+        if (principal != null) {
+            return principal;
+        }
+
+        // sem Cache.get(key, loader): o loader rodaria com a trava do mapa, durante a consulta
+        principal = userDetailsService.loadUserByUsername(email);
+        principals.put(key, principal);
+        return principal;
+    }
+
+    private void evictById(UUID userId) {
+        principals.asMap().values().removeIf(principal ->
+                principal instanceof UserPrincipal userPrincipal && userPrincipal.getId().equals(userId));
+    }
+
+    private class Invalidation implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            if (!(event.getEntity() instanceof User user)) {
+                return;
+            }
+
+            principals.invalidate(User.normalizeEmail(user.getEmail()));
+            if (event.getOldState() != null) {
+                int email = event.getPersister().getPropertyIndex("email");
+                principals.invalidate(User.normalizeEmail((String) event.getOldState()[email]));
+            } else {
+                // sem o estado anterior o e-mail antigo é desconhecido: procura pelo id
+                evictById(user.getId());
+            }
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            if (event.getEntity() instanceof User user) {
+                principals.invalidate(User.normalizeEmail(user.getEmail()));
+            }
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return persister.getMappedClass() == User.class;
+        }
+    }
+}
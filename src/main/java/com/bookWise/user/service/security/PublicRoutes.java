@@ -0,0 +1,43 @@
+package com.bookWise.user.service.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rotas que não exigem token, relativas ao context-path ({@code server.servlet.context-path}).
+ * É a única lista: {@code SecurityConfig} libera essas rotas e {@link JwtAuthenticationFilter}
+ * não as filtra, ambos consultando a mesma {@link RouteTable}.
+ */
+@Component
+public class PublicRoutes implements RequestMatcher {
+    private final RouteTable routes = RouteTable.builder()
+            .route(HttpMethod.POST, "/auth/login")
+            .route(HttpMethod.POST, "/auth/refresh")
+            .route(HttpMethod.POST, "/users")   // cadastro
+            .route(HttpMethod.GET, "/users/email-available")
+            .route(HttpMethod.POST, "/internal/tokens/introspect")   // autenticados pela chave do cliente
+            .route(HttpMethod.GET, "/internal/users/export")
+            .route(HttpMethod.POST, "/internal/users/import")
+            .route(HttpMethod.GET, "/actuator/health/**")
+            .route("/v3/api-docs/**")
+            .route("/swagger-ui/**")
+            .route("/swagger-ui.html")
+            .route("/swagger-resources/**")
+            .route("/webjars/**")
+            .build();
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        String requestURI = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return requestURI.startsWith(contextPath)
+                && routes.matches(request.getMethod(), requestURI, contextPath.length());
+    }
+
+    @Override
+    public String toString() {
+        return routes.toString();
+    }
+}
@@ -0,0 +1,180 @@
+package com.bookWise.user.service.security;
+
+import org.springframework.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * Tabela imutável de rotas, compilada numa trie de caracteres: uma consulta percorre o
+ * caminho uma única vez, sem alocar, a partir de um deslocamento (o tamanho do context-path).
+ * <p>
+ * Padrões aceitos: caminho exato ({@code /auth/login}) ou prefixo ({@code /swagger-ui/**},
+ * que também casa com {@code /swagger-ui}), cada um restrito a métodos HTTP ou a qualquer um.
+ */
+public final class RouteTable {
+    private static final int ANY_METHOD = -1;
+    private static final String PREFIX_SUFFIX = "/**";
+
+    // nó i: rótulos e índices dos filhos, e máscaras de métodos de rota exata e de prefixo
+    private final char[][] labels;
+    private final int[][] children;
+    private final int[] exactMethods;
+    private final int[] prefixMethods;
+    private final String description;
+
+    private RouteTable(char[][] labels, int[][] children, int[] exactMethods, int[] prefixMethods, String description) {
+        this.labels = labels;
+        this.children = children;
+        this.exactMethods = exactMethods;
+        this.prefixMethods = prefixMethods;
+        this.description = description;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @param method método HTTP da requisição
+     * @param path   caminho completo, como em {@code getRequestURI()}
+     * @param offset início do caminho da rota dentro de {@code path}
+     */
+    public boolean matches(String method, String path, int offset) {
+        int methodBit = methodBit(method);
+        if (methodBit == 0) {
+            return false;
+        }
+
+        int node = 0;
+        for (int i = offset; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '/' && (prefixMethods[node] & methodBit) != 0) {
+                return true;
+            }
+
+            node = child(node, c);
+            if (node < 0) {
+                return false;
+            }
+        }
+
+        return ((exactMethods[node] | prefixMethods[node]) & methodBit) != 0;
+    }
+
+    private int child(int node, char c) {
+        char[] nodeLabels = labels[node];
+        for (int i = 0; i < nodeLabels.length; i++) {
+            if (nodeLabels[i] == c) {
+                return children[node][i];
+            }
+        }
+        return -1;
+    }
+
+    private static int methodBit(String method) {
+        return switch (method) {
+            case "GET" -> 1;
+            case "HEAD" -> 1 << 1;
+            case "POST" -> 1 << 2;
+            case "PUT" -> 1 << 3;
+            case "PATCH" -> 1 << 4;
+            case "DELETE" -> 1 << 5;
+            case "OPTIONS" -> 1 << 6;
+            case "TRACE" -> 1 << 7;
+            default -> 0;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    public static final class Builder {
+        private final BuildNode root = new BuildNode();
+        private final StringJoiner description = new StringJoiner(", ", "[", "]");
+
+        private Builder() {
+        }
+
+        public Builder route(String pattern) {
+            return add(ANY_METHOD, pattern, pattern);
+        }
+
+        public Builder route(HttpMethod method, String pattern) {
+            int methodBit = methodBit(method.name());
+            if (methodBit == 0) {
+                throw new IllegalArgumentException("Método HTTP não suportado na tabela de rotas: " + method);
+            }
+            return add(methodBit, pattern, method.name() + " " + pattern);
+        }
+
+        private Builder add(int methods, String pattern, String label) {
+            boolean prefix = pattern.endsWith(PREFIX_SUFFIX);
+            String path = prefix ? pattern.substring(0, pattern.length() - PREFIX_SUFFIX.length()) : pattern;
+            if (!path.isEmpty() && (!path.startsWith("/") || path.endsWith("/"))) {
+                throw new IllegalArgumentException("Rota inválida: " + pattern);
+            }
+            if (path.indexOf('*') >= 0 || path.indexOf('{') >= 0) {
+                throw new IllegalArgumentException("Só são aceitos caminhos exatos ou prefixos terminados em /**: " + pattern);
+            }
+
+            BuildNode node = root;
+            for (int i = 0; i < path.length(); i++) {
+                node = node.children.computeIfAbsent(path.charAt(i), c -> new BuildNode());
+            }
+            if (prefix) {
+                node.prefixMethods |= methods;
+            } else {
+                node.exactMethods |= methods;
+            }
+
+            description.add(label);
+            return this;
+        }
+
+        public RouteTable build() {
+            List<BuildNode> nodes = new ArrayList<>();
+            index(root, nodes);
+
+            char[][] labels = new char[nodes.size()][];
+            int[][] children = new int[nodes.size()][];
+            int[] exactMethods = new int[nodes.size()];
+            int[] prefixMethods = new int[nodes.size()];
+            for (int i = 0; i < nodes.size(); i++) {
+                BuildNode node = nodes.get(i);
+                labels[i] = new char[node.children.size()];
+                children[i] = new int[node.children.size()];
+                int j = 0;
+                for (Map.Entry<Character, BuildNode> child : node.children.entrySet()) {
+                    labels[i][j] = child.getKey();
+                    children[i][j] = child.getValue().index;
+                    j++;
+                }
+                exactMethods[i] = node.exactMethods;
+                prefixMethods[i] = node.prefixMethods;
+            }
+
+            return new RouteTable(labels, children, exactMethods, prefixMethods, description.toString());
+        }
+
+        private static void index(BuildNode node, List<BuildNode> nodes) {
+            node.index = nodes.size();
+            nodes.add(node);
+            for (BuildNode child : node.children.values()) {
+                index(child, nodes);
+            }
+        }
+    }
+
+    private static final class BuildNode {
+        private final Map<Character, BuildNode> children = new TreeMap<>();
+        private int exactMethods;
+        private int prefixMethods;
+        private int index;
+    }
+}
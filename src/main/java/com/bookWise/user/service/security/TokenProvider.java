@@ -11,7 +11,14 @@ public interface TokenProvider {
 
     String generateRefreshToken(User user);
 
-    boolean validateToken(String token);
+    /**
+     * Valida assinatura, formato e expiração sem lançar exceção para tokens rejeitados.
+     */
+    TokenValidationResult validate(String token);
+
+    default boolean validateToken(String token) {
+        return validate(token).isValid();
+    }
 
     String getUsernameFromJWT(String token);
 
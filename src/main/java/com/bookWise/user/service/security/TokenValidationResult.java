@@ -0,0 +1,40 @@
+package com.bookWise.user.service.security;
+
+import com.bookWise.user.service.metrics.AuthMetrics.TokenValidation;
+import io.jsonwebtoken.Claims;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Resultado da validação de um token. O motivo da rejeição é um valor, e não uma exceção a
+ * ser capturada, e um token válido já traz os claims, sem um segundo parse. Os resultados de
+ * rejeição são pré-alocados, um por motivo.
+ */
+public record TokenValidationResult(TokenValidation status, Claims claims) {
+    private static final Map<TokenValidation, TokenValidationResult> REJECTIONS = new EnumMap<>(TokenValidation.class);
+
+    static {
+        for (TokenValidation status : TokenValidation.values()) {
+            if (status != TokenValidation.VALID) {
+                REJECTIONS.put(status, new TokenValidationResult(status, null));
+            }
+        }
+    }
+
+    public static TokenValidationResult valid(Claims claims) {
+        return new TokenValidationResult(TokenValidation.VALID, claims);
+    }
+
+    public static TokenValidationResult rejected(TokenValidation status) {
+        TokenValidationResult result = REJECTIONS.get(status);
+        if (result == null) {
+            throw new IllegalArgumentException("Status de rejeição inválido: " + status);
+        }
+        return result;
+    }
+
+    public boolean isValid() {
+        return status == TokenValidation.VALID;
+    }
+}
@@ -0,0 +1,61 @@
+package com.bookWise.user.service.security;
+
+import com.bookWise.user.service.metrics.AuthMetrics.RejectionCause;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Resposta 401 escrita direto pelo filtro de autenticação, sem exceção e sem passar pelo
+ * {@code HandlerExceptionResolver}. O corpo tem o formato de
+ * {@link com.bookWise.user.service.exception.GlobalExceptionHandler.ErrorResponse} e fica
+ * pré-montado por motivo da rejeição; só o timestamp é escrito a cada resposta.
+ */
+final class UnauthorizedResponseWriter {
+    private static final byte[] SUFFIX = "\",\"errors\":null}".getBytes(StandardCharsets.UTF_8);
+
+    private final Map<RejectionCause, byte[]> prefixes = new EnumMap<>(RejectionCause.class);
+
+    UnauthorizedResponseWriter() {
+        for (RejectionCause cause : RejectionCause.values()) {
+            String prefix = "{\"status\":" + HttpStatus.UNAUTHORIZED.value()
+                    + ",\"error\":\"" + HttpStatus.UNAUTHORIZED.getReasonPhrase()
+                    + "\",\"message\":\"" + new String(JsonStringEncoder.getInstance().quoteAsString(message(cause)))
+                    + "\",\"timestamp\":\"";
+            prefixes.put(cause, prefix.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    static String message(RejectionCause cause) {
+        return switch (cause) {
+            case MISSING_TOKEN -> "Token JWT não fornecido";
+            case EXPIRED_TOKEN -> "Sessão expirada. Faça login novamente.";
+            case INVALID_TOKEN, MALFORMED_TOKEN, INVALID_SIGNATURE -> "Token JWT inválido";
+            case USER_NOT_FOUND, ERROR -> "Erro interno na autenticação";
+        };
+    }
+
+    void write(HttpServletResponse response, RejectionCause cause) throws IOException {
+        byte[] prefix = prefixes.get(cause);
+        byte[] timestamp = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now())
+                .getBytes(StandardCharsets.US_ASCII);
+
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(prefix.length + timestamp.length + SUFFIX.length);
+
+        ServletOutputStream out = response.getOutputStream();
+        out.write(prefix);
+        out.write(timestamp);
+        out.write(SUFFIX);
+    }
+}
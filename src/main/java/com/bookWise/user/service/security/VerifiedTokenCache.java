@@ -0,0 +1,72 @@
+package com.bookWise.user.service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claims de tokens já verificados, para que um mesmo token apresentado várias vezes seja
+ * validado (assinatura HMAC e parse) uma única vez. O filtro de autenticação e a introspecção
+ * têm cada um a sua instância, com tamanho e TTL próprios ({@code users.cache.verified-token}
+ * e {@code jwt.introspection.cache-*}).
+ * <p>
+ * Só tokens válidos entram no cache, e cada entrada expira no que vier primeiro: a expiração
+ * do próprio token ou o TTL. Rejeições não são guardadas: tokens forjados não podem encher o
+ * cache, e rejeitar já é barato. Um acerto não passa por {@link TokenProvider#validate}, então
+ * o timer {@code auth.token.validate} e o evento JFR de parse só contam as faltas.
+ */
+public class VerifiedTokenCache {
+    private final TokenProvider tokenProvider;
+    private final Cache<String, Claims> verified;
+
+    public VerifiedTokenCache(TokenProvider tokenProvider, String name, long maximumSize, Duration timeToLive,
+                              MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry(timeToLive.toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, name);
+    }
+
+    public TokenValidationResult validate(String token) {
+        Claims claims = verified.getIfPresent(token);
+        if (claims != null) {
+            return TokenValidationResult.valid(claims);
+        }
+
+        TokenValidationResult result = tokenProvider.validate(token);
+        if (result.isValid() && result.claims().getExpiration() != null) {
+            verified.put(token, result.claims());
+        }
+        return result;
+    }
+
+    private record UntilTokenExpiry(long maxNanos) implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(maxNanos, remainingNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
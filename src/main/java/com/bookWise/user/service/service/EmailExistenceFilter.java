@@ -0,0 +1,166 @@
+package com.bookWise.user.service.service;
+
+import com.bookWise.user.service.config.RabbitConfig;
+import com.bookWise.user.service.config.UserProperties;
+import com.bookWise.user.service.model.entity.User;
+import com.bookWise.user.service.model.enums.EventType;
+import com.bookWise.user.service.model.event.UserEvent;
+import com.bookWise.user.service.repository.UserRepository;
+import com.bookWise.user.service.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.listener.AsyncConsumerStartedEvent;
+import org.springframework.amqp.rabbit.listener.ListenerContainerConsumerFailedEvent;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Filtro de Bloom dos e-mails cadastrados, normalizados como em {@link User#normalizeEmail}.
+ * Responde "certamente não existe" sem ir ao banco; "talvez exista" ainda precisa da consulta.
+ * <p>
+ * É carregado com uma leitura em streaming da tabela e recebe os e-mails novos pelos caminhos
+ * de escrita locais e pelos eventos {@code USER_CREATED}/{@code USER_UPDATED} publicados por
+ * qualquer instância (fila exclusiva ligada a {@code user.exchange}), o que mantém o filtro
+ * consistente no cluster. Sem o consumidor de eventos ativo o filtro não é confiável, e então
+ * tudo é "talvez".
+ */
+@Slf4j
+@Component
+public class EmailExistenceFilter {
+    private static final String LISTENER_ID = "emailExistenceFilter";
+
+    private final BloomFilter filter;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final RabbitListenerEndpointRegistry listenerEndpointRegistry;
+    private final Counter definiteMisses;
+    private final Counter maybeHits;
+    private final Counter falsePositives;
+
+    private volatile boolean ready;
+
+    public EmailExistenceFilter(UserRepository userRepository,
+                                UserProperties userProperties,
+                                PlatformTransactionManager transactionManager,
+                                RabbitListenerEndpointRegistry listenerEndpointRegistry,
+                                MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.listenerEndpointRegistry = listenerEndpointRegistry;
+        this.filter = BloomFilter.create(userProperties.getEmailFilterExpectedInsertions(),
+                userProperties.getEmailFilterFalsePositiveRate());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.definiteMisses = Counter.builder("users.email.filter.checks")
+                .description("Consultas ao filtro de e-mails")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.maybeHits = Counter.builder("users.email.filter.checks")
+                .description("Consultas ao filtro de e-mails")
+                .tag("result", "maybe")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("users.email.filter.false.positives")
+                .description("Respostas 'talvez' do filtro que o banco não confirmou")
+                .register(meterRegistry);
+        Gauge.builder("users.email.filter.fpp", filter, BloomFilter::expectedFalsePositiveRate)
+                .description("Taxa de falso positivo estimada pela ocupação do filtro")
+                .register(meterRegistry);
+        Gauge.builder("users.email.filter.memory", filter, BloomFilter::sizeInBytes)
+                .description("Memória do filtro de e-mails")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Carrega o filtro quando o consumidor da fila de eventos começa a receber mensagens, na
+     * subida e a cada reconexão: a fila é exclusiva e some junto com a conexão, então eventos
+     * publicados enquanto o consumidor esteve fora só são recuperados relendo a tabela.
+     */
+    @EventListener
+    public void onConsumerStarted(AsyncConsumerStartedEvent event) {
+        if (isBroadcastContainer(event.getSource())) {
+            load();
+        }
+    }
+
+    @EventListener
+    public void onConsumerFailed(ListenerContainerConsumerFailedEvent event) {
+        if (isBroadcastContainer(event.getSource()) && ready) {
+            ready = false;
+            log.warn("Consumidor de eventos de usuário parado; filtro de e-mails desativado até a próxima recarga");
+        }
+    }
+
+    @RabbitListener(id = LISTENER_ID, queues = "#{userEventBroadcastQueue.name}",
+            containerFactory = RabbitConfig.USER_EVENT_BROADCAST_CONTAINER_FACTORY)
+    public void onUserEvent(UserEvent event) {
+        if (event.eventType() == EventType.USER_CREATED || event.eventType() == EventType.USER_UPDATED) {
+            add(event.userEmail());
+        }
+    }
+
+    private void load() {
+        long start = System.nanoTime();
+        AtomicLong loaded = new AtomicLong();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<String> emails = userRepository.streamAllEmails()) {
+                emails.forEach(email -> {
+                    add(email);
+                    loaded.incrementAndGet();
+                });
+            }
+        });
+        ready = true;
+
+        log.info("Filtro de e-mails carregado: {} e-mails, {} KiB, {} funções de hash, fpp estimada {} em {} ms",
+                loaded.get(), filter.sizeInBytes() / 1024, filter.hashFunctions(),
+                String.format("%.5f", filter.expectedFalsePositiveRate()), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private boolean isBroadcastContainer(Object source) {
+        return source == listenerEndpointRegistry.getListenerContainer(LISTENER_ID);
+    }
+
+    public void add(String email) {
+        String normalized = User.normalizeEmail(email);
+        if (normalized != null) {
+            filter.put(normalized);
+        }
+    }
+
+    /**
+     * @return {@code false} somente se o e-mail certamente não está cadastrado
+     */
+    public boolean mightExist(String email) {
+        String normalized = User.normalizeEmail(email);
+        if (!ready || normalized == null) {
+            return true;
+        }
+
+        if (filter.mightContain(normalized)) {
+            maybeHits.increment();
+            return true;
+        }
+
+        definiteMisses.increment();
+        return false;
+    }
+
+    /**
+     * Registra que uma resposta "talvez" não foi confirmada pelo banco.
+     */
+    public void recordFalsePositive() {
+        if (ready) {
+            falsePositives.increment();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.bookWise.user.service.service;
+
+import com.bookWise.user.service.model.entity.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Normaliza no banco os e-mails gravados antes de {@link User#normalizeEmail}, para que toda
+ * busca por e-mail use o índice único da coluna em vez de {@code lower(email)}. Roda na
+ * subida e é idempotente: depois da primeira vez não há o que atualizar.
+ * <p>
+ * Linhas que, normalizadas, colidiriam com outra (o mesmo e-mail com caixas diferentes em
+ * duas contas) não são alteradas nem encontradas pelo login; são só contadas no log, para
+ * serem resolvidas manualmente.
+ */
+@Slf4j
+@Component
+public class EmailNormalizationMigration {
+    private static final String NORMALIZE_SQL = """
+            update users u set email = lower(trim(u.email))
+            where u.email <> lower(trim(u.email))
+              and not exists (select 1 from users o
+                              where o.id <> u.id and lower(trim(o.email)) = lower(trim(u.email)))
+            """;
+    private static final String COUNT_REMAINING_SQL = "select count(*) from users where email <> lower(trim(email))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // a fábrica de EntityManager garante que o esquema já foi criado/atualizado pelo Hibernate
+    public EmailNormalizationMigration(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void normalize() {
+        int updated = jdbcTemplate.update(NORMALIZE_SQL);
+        if (updated > 0) {
+            log.info("{} e-mails de usuários normalizados para minúsculas", updated);
+        }
+
+        Long remaining = jdbcTemplate.queryForObject(COUNT_REMAINING_SQL, Long.class);
+        if (remaining != null && remaining > 0) {
+            log.warn("{} usuários com e-mail não normalizado colidem com outra conta e não são encontrados pelo login",
+                    remaining);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.bookWise.user.service.service;
+
+import com.bookWise.user.service.model.entity.User;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registra o último login dos usuários sem escrever no banco durante o login: os instantes
+ * ficam num mapa em memória (só o mais recente por usuário) e são gravados periodicamente
+ * num único batch JDBC. O que estiver pendente é gravado também no desligamento.
+ * <p>
+ * A coluna {@code last_login} não é atualizada pelo Hibernate ({@code updatable = false}),
+ * então uma atualização de perfil não sobrescreve o valor gravado aqui.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginTracker {
+    private static final int FLUSH_BATCH_SIZE = 1000;
+    private static final String UPDATE_LAST_LOGIN_SQL = """
+            update users set last_login = ?
+            where id = ? and (last_login is null or last_login < ?)
+            """;
+
+    private final Map<UUID, Instant> pending = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void recordLogin(UUID userId, Instant loginAt) {
+        pending.merge(userId, loginAt, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+    }
+
+    @Scheduled(fixedDelayString = "#{@userProperties.lastLoginFlushInterval.toMillis()}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<UUID, Instant>> batch = new ArrayList<>(pending.size());
+        for (Map.Entry<UUID, Instant> entry : pending.entrySet()) {
+            batch.add(Map.entry(entry.getKey(), entry.getValue()));
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_SQL, batch, FLUSH_BATCH_SIZE, (ps, entry) -> {
+                Timestamp loginAt = Timestamp.from(entry.getValue());
+                ps.setTimestamp(1, loginAt);
+                ps.setObject(2, entry.getKey());
+                ps.setTimestamp(3, loginAt);
+            });
+        } catch (Exception e) {
+            log.error("Erro ao gravar último login de {} usuários, nova tentativa no próximo ciclo: {}",
+                    batch.size(), e.getMessage());
+            return;
+        }
+
+        var cache = entityManagerFactory.getCache();
+        for (Map.Entry<UUID, Instant> entry : batch) {
+            // mantém no mapa um login mais recente que chegou durante a gravação
+            pending.remove(entry.getKey(), entry.getValue());
+            cache.evict(User.class, entry.getKey());
+        }
+
+        log.debug("Último login gravado para {} usuários", batch.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("{} registros de último login não foram gravados no desligamento", pending.size());
+        }
+    }
+}
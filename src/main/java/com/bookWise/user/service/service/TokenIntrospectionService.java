@@ -0,0 +1,94 @@
+package com.bookWise.user.service.service;
+
+import com.bookWise.user.service.config.TokenIntrospectionProperties;
+import com.bookWise.user.service.exception.AuthenticationException;
+import com.bookWise.user.service.model.dto.TokenIntrospectionDTO;
+import com.bookWise.user.service.model.dto.TokenIntrospectionResult;
+import com.bookWise.user.service.model.enums.UserTokenType;
+import com.bookWise.user.service.security.ClientKeys;
+import com.bookWise.user.service.security.JwtProvider;
+import com.bookWise.user.service.security.TokenProvider;
+import com.bookWise.user.service.security.TokenValidationResult;
+import com.bookWise.user.service.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Introspecção de tokens para os outros serviços do BookWise, sem que eles precisem do segredo
+ * JWT. Só tokens de acesso são ativos: um refresh token não autentica requisições.
+ */
+@Slf4j
+@Service
+public class TokenIntrospectionService {
+    private static final AuthenticationException UNAUTHORIZED_CLIENT =
+            AuthenticationException.stackless("Cliente de introspecção não autorizado");
+    private static final String REFRESH_TYPE = UserTokenType.REFRESH.name().toLowerCase();
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenIntrospectionProperties properties;
+
+    public TokenIntrospectionService(TokenProvider tokenProvider, TokenIntrospectionProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.verifiedTokenCache = new VerifiedTokenCache(tokenProvider, "verifiedTokens",
+                properties.getCacheMaximumSize(), properties.getCacheTtl(), meterRegistry);
+        this.properties = properties;
+    }
+
+    public void authorizeClient(String clientKey) {
+        if (!ClientKeys.matches(clientKey, properties.getClientKeys())) {
+            throw UNAUTHORIZED_CLIENT;
+        }
+    }
+
+    public TokenIntrospectionResult introspect(List<String> tokens) {
+        if (tokens.size() > properties.getMaxTokens()) {
+            throw new IllegalArgumentException("No máximo " + properties.getMaxTokens() + " tokens por requisição");
+        }
+
+        log.debug("Introspecção de {} tokens", tokens.size());
+
+        List<TokenIntrospectionDTO> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            results.add(introspect(token));
+        }
+        return new TokenIntrospectionResult(results);
+    }
+
+    private TokenIntrospectionDTO introspect(String token) {
+        TokenValidationResult result = verifiedTokenCache.validate(token);
+        if (!result.isValid()) {
+            return TokenIntrospectionDTO.INACTIVE;
+        }
+
+        Claims claims = result.claims();
+        if (REFRESH_TYPE.equals(claims.get(JwtProvider.CLAIM_KEY_TYPE, String.class))) {
+            return TokenIntrospectionDTO.INACTIVE;
+        }
+
+        return new TokenIntrospectionDTO(true, claims.getSubject(),
+                JwtProvider.userId(claims),
+                claims.getExpiration().getTime() / 1000);
+    }
+
+    /**
+     * Por quanto tempo quem chamou pode reaproveitar a resposta: até o primeiro token ativo
+     * expirar, limitado a {@code jwt.introspection.cache-ttl}. Um token inativo nunca volta a
+     * ser ativo, então não limita nada.
+     */
+    public Duration maxAge(TokenIntrospectionResult result) {
+        long maxAgeSeconds = properties.getCacheTtl().toSeconds();
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        for (TokenIntrospectionDTO token : result.tokens()) {
+            if (token.active()) {
+                maxAgeSeconds = Math.min(maxAgeSeconds, token.exp() - nowSeconds);
+            }
+        }
+        return Duration.ofSeconds(Math.max(0, maxAgeSeconds));
+    }
+}
@@ -1,7 +1,10 @@
 package com.bookWise.user.service.service;
 
+import com.bookWise.user.service.audit.AuditEventType;
+import com.bookWise.user.service.audit.AuditLog;
 import com.bookWise.user.service.exception.AuthenticationException;
 import com.bookWise.user.service.exception.ResourceNotFoundException;
+import com.bookWise.user.service.logging.RateLimitFilter;
 import com.bookWise.user.service.model.dto.AccessTokenDTO;
 import com.bookWise.user.service.model.entity.User;
 import com.bookWise.user.service.repository.UserRepository;
@@ -20,9 +23,16 @@ import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 public class UserAuthService {
+    // o endpoint de refresh é público: tokens inválidos não pagam o preenchimento do stack trace
+    private static final AuthenticationException INVALID_REFRESH_TOKEN =
+            AuthenticationException.stackless("Invalid refresh token");
+
     private final UserRepository userRepository;
     private final TokenProvider tokenProvider;
     private final PasswordEncoder passwordEncoder;
+    private final LastLoginTracker lastLoginTracker;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final AuditLog auditLog;
 
     @Transactional
     public AccessTokenDTO login(String email, String password) {
@@ -30,24 +40,56 @@ public class UserAuthService {
             throw new AuthenticationException("Email and password are required");
         }
 
-        User user = userRepository.findByEmailIgnoreCase(email)
+        // e-mail que certamente não existe (ex.: credential stuffing) não chega ao banco
+        if (!emailExistenceFilter.mightExist(email)) {
+            auditLog.record(AuditEventType.LOGIN_FAILURE, null, email);
+            logLoginFailure("Usuário não encontrado no login", email);
+            throw new UsernameNotFoundException("Usuário não encontrado com o e-mail: " + email);
+        }
+
+        // o hash da senha vem do banco: o cache local não vê trocas de senha feitas em outra instância
+        User user = userRepository.findByEmailBypassingCache(email)
                 .orElseThrow(() -> {
-                    log.warn("Usuário com e-mail '{}' não encontrado", email);
+                    emailExistenceFilter.recordFalsePositive();
+                    auditLog.record(AuditEventType.LOGIN_FAILURE, null, email);
+                    logLoginFailure("Usuário não encontrado no login", email);
                     return new UsernameNotFoundException("Usuário não encontrado com o e-mail: " + email);
                 });
 
+        // senha errada recebe a mesma resposta (exceção e mensagem) que e-mail desconhecido. O tempo
+        // de resposta ainda difere, de propósito: e-mail desconhecido volta sem pagar o BCrypt
+        if (!passwordEncoder.matches(password, user.getPassword())) {
+            auditLog.record(AuditEventType.LOGIN_FAILURE, user.getId(), user.getEmail());
+            logLoginFailure("Senha incorreta no login", user.getEmail());
+            throw new UsernameNotFoundException("Usuário não encontrado com o e-mail: " + email);
+        }
+
         try {
             String accessToken = tokenProvider.generateAccessToken(user);
             String refreshToken = tokenProvider.generateRefreshToken(user);
 
+            user.markLoginSuccess();
+            lastLoginTracker.recordLogin(user.getId(), user.getLastLogin());
+            auditLog.record(AuditEventType.LOGIN_SUCCESS, user.getId(), user.getEmail());
+
             log.info("User {} logged in successfully", user.getEmail());
             return new AccessTokenDTO(accessToken, refreshToken);
 
         } catch (Exception e) {
+            auditLog.record(AuditEventType.LOGIN_FAILURE, user.getId(), user.getEmail());
             throw new AuthenticationException("Invalid email or password");
         }
     }
 
+    /**
+     * Uma linha por tentativa: sob credential stuffing ela repete a cada requisição, então a
+     * mensagem é fixa, o e-mail vai como campo estruturado e a linha é limitada por
+     * {@link RateLimitFilter}.
+     */
+    private static void logLoginFailure(String message, String email) {
+        log.atWarn().addMarker(RateLimitFilter.RATE_LIMITED).addKeyValue("email", email).log(message);
+    }
+
     @Transactional
     public AccessTokenDTO refreshToken(String refreshToken) {
         if (!StringUtils.hasText(refreshToken)) {
@@ -55,7 +97,8 @@ public class UserAuthService {
         }
 
         if (!tokenProvider.validateToken(refreshToken)) {
-            throw new AuthenticationException("Invalid refresh token");
+            auditLog.record(AuditEventType.TOKEN_REFRESH_REJECTED, null, null);
+            throw INVALID_REFRESH_TOKEN;
         }
 
         UUID userId = UUID.fromString(tokenProvider.getUserIdFromJWT(refreshToken));
@@ -65,19 +108,21 @@ public class UserAuthService {
         String newAccessToken = tokenProvider.generateAccessToken(user);
         String newRefreshToken = tokenProvider.generateRefreshToken(user);
 
+        auditLog.record(AuditEventType.TOKEN_REFRESH, user.getId(), user.getEmail());
         log.info("Refreshed tokens for user {}", user.getEmail());
         return new AccessTokenDTO(newAccessToken, newRefreshToken);
     }
 
     @Transactional
     public void changePassword(String email, String currentPassword, String newPassword) {
-        User user = userRepository.findByEmailIgnoreCase(email)
+        User user = userRepository.findByEmailBypassingCache(email)
                 .orElseThrow(() -> {
                     log.warn("Usuário com e-mail '{}' não encontrado", email);
                     return new UsernameNotFoundException("Usuário não encontrado com o e-mail: " + email);
                 });
 
         if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+            auditLog.record(AuditEventType.PASSWORD_CHANGE_REJECTED, user.getId(), email);
             throw new AuthenticationException("Current password is incorrect");
         }
 
@@ -87,6 +132,7 @@ public class UserAuthService {
 
         user.changePassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        auditLog.record(AuditEventType.PASSWORD_CHANGE, user.getId(), email);
 
         log.info("Password changed successfully for user {}", email);
     }
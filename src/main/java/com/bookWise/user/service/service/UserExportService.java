@@ -0,0 +1,70 @@
+package com.bookWise.user.service.service;
+
+import com.bookWise.user.service.config.UserProperties;
+import com.bookWise.user.service.model.dto.UserExportDTO;
+import com.bookWise.user.service.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Exporta todos os usuários como NDJSON usando paginação por chave em {@code (createdAt, id)}.
+ * Cada página roda na sua própria transação somente leitura, então nem a tabela inteira
+ * fica em memória nem uma transação longa segura o banco durante a exportação.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserExportService {
+    private final UserRepository userRepository;
+    private final UserProperties userProperties;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    public long exportAll(OutputStream outputStream) throws IOException {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Limit pageSize = Limit.of(userProperties.getExportPageSize());
+        long exported = 0;
+        long start = System.nanoTime();
+
+        try (SequenceWriter writer = objectMapper.writerFor(UserExportDTO.class)
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream)) {
+            List<UserExportDTO> page = readOnly.execute(status -> userRepository.findExportPage(pageSize));
+
+            while (page != null && !page.isEmpty()) {
+                writer.writeAll(page);
+                writer.flush();
+                exported += page.size();
+
+                if (page.size() < pageSize.max()) {
+                    break;
+                }
+
+                UserExportDTO last = page.get(page.size() - 1);
+                page = readOnly.execute(status ->
+                        userRepository.findExportPageAfter(last.createdAt(), last.id(), pageSize));
+            }
+            if (exported > 0) {
+                outputStream.write('\n');
+            }
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Exportação de usuários concluída: {} registros em {} ms ({} registros/s)",
+                exported, elapsedMs, exported * 1000 / elapsedMs);
+
+        return exported;
+    }
+}
@@ -0,0 +1,259 @@
+package com.bookWise.user.service.service;
+
+import com.bookWise.user.service.config.UserProperties;
+import com.bookWise.user.service.mapper.UserEventMapper;
+import com.bookWise.user.service.model.dto.UserImportRecord;
+import com.bookWise.user.service.model.dto.UserImportReport;
+import com.bookWise.user.service.model.entity.User;
+import com.bookWise.user.service.model.enums.EventType;
+import com.bookWise.user.service.model.event.UserEvent;
+import com.bookWise.user.service.publisher.UserEventPublisher;
+import com.bookWise.user.service.repository.UserRepository;
+import com.bookWise.user.service.util.UuidV7;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Importação em massa de usuários a partir de NDJSON ou CSV. O arquivo é lido em streaming
+ * e processado em lotes: as senhas de cada lote são codificadas em paralelo num pool
+ * fork-join dedicado, os inserts vão ao banco num único batch JDBC e os eventos
+ * {@code USER_CREATED} são publicados em lote, num único canal, na mesma transação.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+    private static final String INSERT_USER_SQL = """
+            insert into users (id, email, password, name, avatar_url, bio, created_at, updated_at, is_active, email_verified)
+            values (?, ?, ?, ?, ?, ?, ?, ?, true, false)
+            on conflict (email) do nothing
+            """;
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UserEventPublisher userEventPublisher;
+    private final UserEventMapper userEventMapper;
+    private final UserProperties userProperties;
+    private final UserSearchIndex userSearchIndex;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool hashingPool;
+
+    public UserImportService(UserRepository userRepository,
+                             PasswordEncoder passwordEncoder,
+                             UserEventPublisher userEventPublisher,
+                             UserEventMapper userEventMapper,
+                             UserProperties userProperties,
+                             UserSearchIndex userSearchIndex,
+                             EmailExistenceFilter emailExistenceFilter,
+                             ObjectMapper objectMapper,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userEventPublisher = userEventPublisher;
+        this.userEventMapper = userEventMapper;
+        this.userProperties = userProperties;
+        this.userSearchIndex = userSearchIndex;
+        this.emailExistenceFilter = emailExistenceFilter;
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.hashingPool = new ForkJoinPool(userProperties.getImportHashParallelism());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingPool.shutdown();
+    }
+
+    public UserImportReport importNdjson(InputStream inputStream) throws IOException {
+        try (MappingIterator<UserImportRecord> records = objectMapper.readerFor(UserImportRecord.class)
+                .readValues(inputStream)) {
+            return importRecords(records);
+        }
+    }
+
+    public UserImportReport importCsv(InputStream inputStream) throws IOException {
+        try (MappingIterator<UserImportRecord> records = csvMapper.readerFor(UserImportRecord.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(inputStream)) {
+            return importRecords(records);
+        }
+    }
+
+    private UserImportReport importRecords(MappingIterator<UserImportRecord> records) throws IOException {
+        long start = System.nanoTime();
+        ImportProgress progress = new ImportProgress();
+        Set<String> seenEmails = new HashSet<>();
+        List<UserImportRecord> batch = new ArrayList<>(userProperties.getImportBatchSize());
+
+        while (records.hasNextValue()) {
+            batch.add(records.nextValue());
+            progress.received++;
+
+            if (batch.size() == userProperties.getImportBatchSize()) {
+                importBatch(batch, seenEmails, progress);
+                batch.clear();
+                logProgress(progress, start);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            importBatch(batch, seenEmails, progress);
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        UserImportReport report = new UserImportReport(progress.received, progress.imported, progress.duplicates,
+                progress.invalid, elapsedMs, progress.imported * 1000 / elapsedMs);
+        log.info("Importação de usuários concluída: {}", report);
+
+        return report;
+    }
+
+    private void importBatch(List<UserImportRecord> batch, Set<String> seenEmails, ImportProgress progress) {
+        List<User> candidates = new ArrayList<>(batch.size());
+        for (UserImportRecord record : batch) {
+            if (!isValid(record)) {
+                progress.invalid++;
+                continue;
+            }
+
+            String email = record.email().trim().toLowerCase(Locale.ROOT);
+            if (!seenEmails.add(email)) {
+                progress.duplicates++;
+                continue;
+            }
+
+            User user = new User();
+            user.setId(UuidV7.randomUuid());
+            user.setEmail(email);
+            user.setName(record.name().trim());
+            user.setPassword(record.password());
+            user.setAvatarUrl(StringUtils.hasText(record.avatarUrl()) ? record.avatarUrl() : null);
+            user.setBio(StringUtils.hasText(record.bio()) ? record.bio() : null);
+            candidates.add(user);
+        }
+
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+                candidates.stream().map(User::getEmail).toList()));
+        if (!existing.isEmpty()) {
+            candidates.removeIf(user -> existing.contains(user.getEmail()));
+            progress.duplicates += existing.size();
+        }
+
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<String> hashes = hashingPool.submit(() -> candidates.parallelStream()
+                .map(user -> passwordEncoder.encode(user.getPassword()))
+                .toList()).join();
+        for (int i = 0; i < candidates.size(); i++) {
+            candidates.get(i).setPassword(hashes.get(i));
+        }
+
+        // Como no cadastro individual, os eventos são publicados dentro da transação:
+        // uma falha na publicação desfaz o lote.
+        List<User> inserted = transactionTemplate.execute(status -> {
+            int[][] results = insertBatch(candidates);
+
+            List<User> users = new ArrayList<>(candidates.size());
+            int index = 0;
+            for (int[] chunk : results) {
+                for (int updated : chunk) {
+                    if (updated > 0) {
+                        users.add(candidates.get(index));
+                    }
+                    index++;
+                }
+            }
+
+            List<UserEvent> events = new ArrayList<>(users.size());
+            for (User user : users) {
+                events.add(userEventMapper.toUserEvent(user, EventType.USER_CREATED));
+            }
+            userEventPublisher.publishAll(events);
+            return users;
+        });
+
+        for (User user : inserted) {
+            userSearchIndex.indexAfterCommit(user);
+            emailExistenceFilter.add(user.getEmail());
+        }
+
+        // e-mails cadastrados por outra requisição depois da verificação do lote
+        progress.duplicates += candidates.size() - inserted.size();
+        progress.imported += inserted.size();
+    }
+
+    private int[][] insertBatch(List<User> users) {
+        Timestamp now = Timestamp.from(Instant.now());
+        return jdbcTemplate.batchUpdate(INSERT_USER_SQL, users, users.size(), (ps, user) -> {
+            ps.setObject(1, user.getId());
+            ps.setString(2, user.getEmail());
+            ps.setString(3, user.getPassword());
+            ps.setString(4, user.getName());
+            ps.setString(5, user.getAvatarUrl());
+            ps.setString(6, user.getBio());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    private boolean isValid(UserImportRecord record) {
+        return StringUtils.hasText(record.email())
+                && record.email().length() <= 100
+                && record.email().indexOf('@') > 0
+                && StringUtils.hasText(record.name())
+                && record.name().length() <= 100
+                && record.password() != null
+                && record.password().length() >= 8
+                && record.password().length() <= 100;
+    }
+
+    private void logProgress(ImportProgress progress, long start) {
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Importação de usuários em andamento: {} lidos, {} importados, {} duplicados, {} inválidos ({} usuários/s)",
+                progress.received, progress.imported, progress.duplicates, progress.invalid,
+                progress.imported * 1000 / elapsedMs);
+    }
+
+    private static final class ImportProgress {
+        private long received;
+        private long imported;
+        private long duplicates;
+        private long invalid;
+    }
+}
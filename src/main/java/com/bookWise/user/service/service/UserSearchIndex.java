@@ -0,0 +1,265 @@
+package com.bookWise.user.service.service;
+
+import com.bookWise.user.service.config.RabbitConfig;
+import com.bookWise.user.service.config.UserProperties;
+import com.bookWise.user.service.model.dto.UserExportDTO;
+import com.bookWise.user.service.model.dto.UserSummaryDTO;
+import com.bookWise.user.service.model.entity.User;
+import com.bookWise.user.service.model.enums.EventType;
+import com.bookWise.user.service.model.event.UserEvent;
+import com.bookWise.user.service.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.listener.AsyncConsumerStartedEvent;
+import org.springframework.amqp.rabbit.listener.ListenerContainerConsumerFailedEvent;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Índice em memória para busca de usuários por prefixo do nome (nome completo ou qualquer
+ * palavra dele) ou do e-mail. Os termos são normalizados (minúsculos, sem acentos) e ficam
+ * num {@link ConcurrentSkipListMap} ordenado, com chave {@code termo + '\0' + id}: uma busca
+ * percorre só o intervalo do prefixo e para ao atingir o limite.
+ * <p>
+ * O índice é carregado na subida da aplicação, lendo a tabela por paginação de chave. Depois
+ * disso é atualizado pelos caminhos de escrita locais de {@link UserService} e
+ * {@link UserImportService}, depois do commit, e pelos eventos {@code USER_CREATED}/
+ * {@code USER_UPDATED} publicados por qualquer instância (fila exclusiva ligada a
+ * {@code user.exchange}). Se o consumidor cair, a fila some com a conexão e os eventos do
+ * intervalo se perdem: o índice é relido quando o consumidor volta.
+ */
+@Slf4j
+@Component
+public class UserSearchIndex {
+    private static final String LISTENER_ID = "userSearchIndex";
+    private static final char SEPARATOR = '\u0000';
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // estimativas para o gauge de memória: nó da skip list + String da chave, e entrada por usuário
+    private static final long TERM_OVERHEAD_BYTES = 120;
+    private static final long USER_OVERHEAD_BYTES = 200;
+
+    private final ConcurrentSkipListMap<String, UserSummaryDTO> terms = new ConcurrentSkipListMap<>();
+    private final Map<UUID, List<String>> termsByUser = new ConcurrentHashMap<>();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    private final UserRepository userRepository;
+    private final UserProperties userProperties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final RabbitListenerEndpointRegistry listenerEndpointRegistry;
+    private final Timer searchTimer;
+
+    private volatile boolean missedEvents;
+
+    public UserSearchIndex(UserRepository userRepository,
+                           UserProperties userProperties,
+                           PlatformTransactionManager transactionManager,
+                           RabbitListenerEndpointRegistry listenerEndpointRegistry,
+                           MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.userProperties = userProperties;
+        this.listenerEndpointRegistry = listenerEndpointRegistry;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.searchTimer = Timer.builder("users.search")
+                .description("Tempo de busca no índice de usuários por prefixo")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("users.search.index.users", termsByUser, Map::size)
+                .description("Usuários no índice de busca")
+                .register(meterRegistry);
+        Gauge.builder("users.search.index.terms", terms, Map::size)
+                .description("Termos no índice de busca")
+                .register(meterRegistry);
+        Gauge.builder("users.search.index.memory", estimatedBytes, AtomicLong::get)
+                .description("Memória estimada do índice de busca")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        load(false);
+    }
+
+    @EventListener
+    public void onConsumerStarted(AsyncConsumerStartedEvent event) {
+        if (isBroadcastContainer(event.getSource()) && missedEvents) {
+            missedEvents = false;
+            load(true);
+        }
+    }
+
+    @EventListener
+    public void onConsumerFailed(ListenerContainerConsumerFailedEvent event) {
+        if (isBroadcastContainer(event.getSource()) && !missedEvents) {
+            missedEvents = true;
+            log.warn("Consumidor de eventos de usuário parado; índice de busca será relido quando ele voltar");
+        }
+    }
+
+    @RabbitListener(id = LISTENER_ID, queues = "#{userSearchIndexBroadcastQueue.name}",
+            containerFactory = RabbitConfig.USER_EVENT_BROADCAST_CONTAINER_FACTORY)
+    public void onUserEvent(UserEvent event) {
+        if (event.eventType() == EventType.USER_CREATED || event.eventType() == EventType.USER_UPDATED) {
+            index(new UserSummaryDTO(event.userId(), event.userName(), event.userAvatarUrl()), event.userEmail());
+        }
+    }
+
+    /**
+     * @param reload relê usuários já indexados; na primeira carga o que os caminhos de escrita e
+     *               os eventos indexaram durante a leitura é mais novo e é mantido
+     */
+    private void load(boolean reload) {
+        long start = System.nanoTime();
+        Limit pageSize = Limit.of(userProperties.getExportPageSize());
+        long loaded = 0;
+
+        List<UserExportDTO> page = readOnlyTransaction.execute(status -> userRepository.findExportPage(pageSize));
+        while (page != null && !page.isEmpty()) {
+            for (UserExportDTO user : page) {
+                UserSummaryDTO summary = new UserSummaryDTO(user.id(), user.name(), user.avatarUrl());
+                if (reload) {
+                    index(summary, user.email());
+                } else {
+                    termsByUser.computeIfAbsent(user.id(), id -> addTerms(summary, user.email()));
+                }
+            }
+            loaded += page.size();
+
+            if (page.size() < pageSize.max()) {
+                break;
+            }
+
+            UserExportDTO last = page.get(page.size() - 1);
+            page = readOnlyTransaction.execute(status ->
+                    userRepository.findExportPageAfter(last.createdAt(), last.id(), pageSize));
+        }
+
+        log.info("Índice de busca de usuários {}: {} usuários, {} termos, ~{} KiB em {} ms",
+                reload ? "relido" : "carregado", loaded, terms.size(), estimatedBytes.get() / 1024,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private boolean isBroadcastContainer(Object source) {
+        return source == listenerEndpointRegistry.getListenerContainer(LISTENER_ID);
+    }
+
+    public List<UserSummaryDTO> search(String query, int limit) {
+        return searchTimer.record(() -> {
+            String prefix = normalize(query);
+            if (prefix.isEmpty() || limit < 1) {
+                return List.of();
+            }
+
+            Map<UUID, UserSummaryDTO> results = new LinkedHashMap<>();
+            for (UserSummaryDTO user : terms.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+                results.putIfAbsent(user.id(), user);
+                if (results.size() == limit) {
+                    break;
+                }
+            }
+
+            return List.copyOf(results.values());
+        });
+    }
+
+    /**
+     * Indexa o usuário; dentro de uma transação, somente depois do commit.
+     */
+    public void indexAfterCommit(User user) {
+        UserSummaryDTO summary = new UserSummaryDTO(user.getId(), user.getName(), user.getAvatarUrl());
+        String email = user.getEmail();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index(summary, email);
+                }
+            });
+        } else {
+            index(summary, email);
+        }
+    }
+
+    public void index(UserSummaryDTO user, String email) {
+        termsByUser.compute(user.id(), (id, previous) -> {
+            if (previous != null) {
+                removeTerms(previous);
+            }
+            return addTerms(user, email);
+        });
+    }
+
+    private List<String> addTerms(UserSummaryDTO user, String email) {
+        Set<String> userTerms = new LinkedHashSet<>();
+        String name = normalize(user.name());
+        if (!name.isEmpty()) {
+            userTerms.add(name);
+            for (String word : name.split(" ")) {
+                userTerms.add(word);
+            }
+        }
+        String normalizedEmail = normalize(email);
+        if (!normalizedEmail.isEmpty()) {
+            userTerms.add(normalizedEmail);
+        }
+
+        List<String> keys = new ArrayList<>(userTerms.size());
+        long bytes = USER_OVERHEAD_BYTES;
+        for (String term : userTerms) {
+            String key = term + SEPARATOR + user.id();
+            terms.put(key, user);
+            keys.add(key);
+            bytes += TERM_OVERHEAD_BYTES + key.length();
+        }
+        estimatedBytes.addAndGet(bytes);
+
+        return keys;
+    }
+
+    private void removeTerms(List<String> keys) {
+        long bytes = USER_OVERHEAD_BYTES;
+        for (String key : keys) {
+            terms.remove(key);
+            bytes += TERM_OVERHEAD_BYTES + key.length();
+        }
+        estimatedBytes.addAndGet(-bytes);
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        String withoutAccents = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACE.matcher(withoutAccents.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
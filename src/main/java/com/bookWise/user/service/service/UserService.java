@@ -1,8 +1,13 @@
 package com.bookWise.user.service.service;
 
+import com.bookWise.user.service.config.UserProperties;
+import com.bookWise.user.service.exception.PreconditionFailedException;
 import com.bookWise.user.service.exception.ResourceAlreadyExistsException;
 import com.bookWise.user.service.exception.ResourceNotFoundException;
 import com.bookWise.user.service.mapper.UserEventMapper;
+import com.bookWise.user.service.model.dto.UserBatchResult;
+import com.bookWise.user.service.model.dto.UserProfileDTO;
+import com.bookWise.user.service.model.dto.UserSummaryDTO;
 import com.bookWise.user.service.model.entity.User;
 import com.bookWise.user.service.model.enums.EventType;
 import com.bookWise.user.service.publisher.UserEventPublisher;
@@ -13,7 +18,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -24,13 +33,68 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final UserEventPublisher userEventPublisher;
     private final UserEventMapper userEventMapper;
+    private final UserProperties userProperties;
+    private final UserSearchIndex userSearchIndex;
+    private final EmailExistenceFilter emailExistenceFilter;
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Optional<User> findById(UUID id) {
         log.debug("Buscando usuário por ID: {}", id);
         return userRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<UserProfileDTO> findProfileById(UUID id) {
+        log.debug("Buscando perfil do usuário por ID: {}", id);
+        return userRepository.findProfileById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersionById(UUID id) {
+        return userRepository.findVersionById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public UserBatchResult findSummariesByIds(Collection<UUID> ids) {
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+        if (requested.size() > userProperties.getBatchMaxIds()) {
+            throw new IllegalArgumentException("No máximo " + userProperties.getBatchMaxIds() + " ids por requisição");
+        }
+
+        log.debug("Buscando {} usuários em lote", requested.size());
+
+        List<UserSummaryDTO> users = userRepository.findSummariesByIdIn(requested);
+        for (UserSummaryDTO user : users) {
+            requested.remove(user.id());
+        }
+
+        return new UserBatchResult(users, List.copyOf(requested));
+    }
+
+    /**
+     * Um e-mail que o filtro de Bloom nunca viu está disponível sem consulta ao banco.
+     */
+    @Transactional(readOnly = true)
+    public boolean isEmailAvailable(String email) {
+        if (!emailExistenceFilter.mightExist(email)) {
+            return true;
+        }
+
+        boolean exists = userRepository.findByEmailIgnoreCase(email).isPresent();
+        if (!exists) {
+            emailExistenceFilter.recordFalsePositive();
+        }
+        return !exists;
+    }
+
+    public List<UserSummaryDTO> search(String query, int limit) {
+        if (limit > userProperties.getSearchMaxResults()) {
+            throw new IllegalArgumentException("No máximo " + userProperties.getSearchMaxResults() + " resultados por busca");
+        }
+
+        return userSearchIndex.search(query, limit);
+    }
+
     @Transactional
     public User registerUser(User user) {
         log.debug("Iniciando registro do usuário: {}", user.getEmail());
@@ -49,6 +113,8 @@ public class UserService {
         User savedUser = userRepository.save(user);
 
         userEventPublisher.publish(userEventMapper.toUserEvent(savedUser, EventType.USER_CREATED));
+        userSearchIndex.indexAfterCommit(savedUser);
+        emailExistenceFilter.add(savedUser.getEmail());
         log.info("Usuário registrado com sucesso. ID: {}", savedUser.getId());
 
         return savedUser;
@@ -56,11 +122,26 @@ public class UserService {
 
     @Transactional
     public User updateUser(UUID id, User userRequest) {
+        return updateUser(id, userRequest, null);
+    }
+
+    /**
+     * Atualiza o usuário somente se a versão atual for {@code expectedVersion} (quando informada).
+     * A coluna {@code @Version} garante a proteção contra atualização perdida também no banco.
+     */
+    @Transactional
+    public User updateUser(UUID id, User userRequest, Long expectedVersion) {
         log.debug("Iniciando atualização do usuário: {}", id);
 
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário", "id", id));
 
+        if (expectedVersion != null && user.getVersion() != expectedVersion) {
+            log.warn("Versão divergente ao atualizar o usuário {}: esperada {}, atual {}",
+                    id, expectedVersion, user.getVersion());
+            throw new PreconditionFailedException("O usuário foi alterado por outra requisição");
+        }
+
         if (userRepository.findByEmailIgnoreCase(user.getPassword()).isPresent()) {
             log.warn("Tentativa de atualizar uma senha já existente: {}", userRequest.getEmail());
             throw new ResourceAlreadyExistsException("Não é possível atualizar uma senha já existente");
@@ -76,8 +157,14 @@ public class UserService {
             user.setPassword(passwordEncoder.encode(userRequest.getPassword()));
         }
 
-        userEventPublisher.publish(userEventMapper.toUserEvent(user, EventType.USER_UPDATED));
+        User savedUser = userRepository.save(user);
+        // Antecipa o UPDATE para que a versão retornada (ETag) já seja a nova e para que um
+        // conflito de versão (409) apareça aqui, antes de o evento ser publicado
+        userRepository.flush();
 
-        return userRepository.save(user);
+        userEventPublisher.publish(userEventMapper.toUserEvent(savedUser, EventType.USER_UPDATED));
+        userSearchIndex.indexAfterCommit(savedUser);
+        emailExistenceFilter.add(savedUser.getEmail());
+        return savedUser;
     }
 }
@@ -0,0 +1,123 @@
+package com.bookWise.user.service.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom thread-safe sobre um {@link AtomicLongArray}. Inserções usam CAS por palavra
+ * de 64 bits, sem lock, e consultas nunca bloqueiam. Não há remoção: um "não" é definitivo, um
+ * "talvez" precisa ser confirmado na fonte.
+ * <p>
+ * As {@code k} posições de cada valor vêm de double hashing ({@code h1 + i * h2}) sobre duas
+ * misturas de 64 bits do hash FNV-1a dos caracteres.
+ */
+public final class BloomFilter {
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final AtomicLong bitCount = new AtomicLong();
+
+    private BloomFilter(long bitSize, int hashFunctions) {
+        long wordCount = (bitSize + 63) / 64;
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Filtro de Bloom grande demais: " + bitSize + " bits");
+        }
+        this.words = new AtomicLongArray((int) wordCount);
+        this.bitSize = wordCount * 64;
+        this.hashFunctions = hashFunctions;
+    }
+
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("O número esperado de inserções deve ser maior que zero");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("A taxa de falso positivo deve estar entre 0 e 1");
+        }
+
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * LN2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    /**
+     * @return {@code true} se algum bit foi ligado, isto é, se o valor certamente não estava no filtro
+     */
+    public boolean put(CharSequence value) {
+        long hash = fnv1a(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+
+        boolean changed = false;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+
+            long current = words.get(index);
+            while ((current & mask) == 0) {
+                if (words.compareAndSet(index, current, current | mask)) {
+                    bitCount.incrementAndGet();
+                    changed = true;
+                    break;
+                }
+                current = words.get(index);
+            }
+        }
+        return changed;
+    }
+
+    public boolean mightContain(CharSequence value) {
+        long hash = fnv1a(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Taxa de falso positivo estimada a partir da fração de bits ligados: {@code (X / m) ^ k}.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitCount.get() / bitSize, hashFunctions);
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    public long sizeInBytes() {
+        return bitSize / 8;
+    }
+
+    private static long fnv1a(CharSequence value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    // finalizador de 64 bits do MurmurHash3
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,37 @@
+package com.bookWise.user.service.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDs versão 7 (RFC 9562): os 48 bits mais significativos são o instante em milissegundos,
+ * o restante é aleatório. Ids gerados em sequência ficam próximos no índice da chave primária,
+ * e os inserts vão para o fim da B-tree em vez de uma folha aleatória.
+ * <p>
+ * Dentro do mesmo milissegundo os 12 bits seguintes ao instante são um contador (método 1
+ * da RFC), avançado por CAS sem lock. Assim ids consecutivos são estritamente crescentes
+ * e os inserts caem sempre na última página do índice. Se o contador estourar, o instante
+ * avança um milissegundo. Os 62 bits finais vêm de {@link ThreadLocalRandom}, sem
+ * contenção entre threads; por isso os ids não devem ser usados como segredo.
+ */
+public final class UuidV7 {
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final int COUNTER_BITS = 12;
+
+    // instante em ms << 12 | contador do último id gerado
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID randomUuid() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long timeAndCounter = LAST.updateAndGet(last -> Math.max(last + 1, now));
+
+        long mostSigBits = ((timeAndCounter >>> COUNTER_BITS) << 16) | VERSION | (timeAndCounter & 0x0FFFL);
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,106 @@
+package com.bookWise.user.service.audit;
+
+import com.bookWise.user.service.config.AuditLogProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditLogWriterTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void shouldRotateSegmentsAndReadRecordsBackInOrder() throws IOException {
+		UUID userId = UUID.randomUUID();
+		InetAddress address = InetAddress.getByName("10.0.0.7");
+		int records = 20_000;   // 1MB por segmento: pouco mais de 8 mil registros cada
+
+		try (AuditLogWriter writer = new AuditLogWriter(properties(AuditLogProperties.FsyncPolicy.BATCH))) {
+			for (int i = 0; i < records; i++) {
+				while (!writer.append(AuditRecord.of(AuditEventType.LOGIN_SUCCESS, userId, address, "user" + i + "@bookwise.com"))) {
+					Thread.onSpinWait();
+				}
+			}
+		}
+
+		List<AuditRecord> read = read();
+		assertEquals(records, read.size());
+		assertEquals(3, AuditSegment.list(directory).size());
+		for (int i = 0; i < records; i++) {
+			AuditRecord record = read.get(i);
+			assertEquals(i + 1, record.sequence());
+			assertEquals(AuditEventType.LOGIN_SUCCESS, record.type());
+			assertEquals(userId, record.userId());
+			assertEquals(address, record.address());
+			assertEquals("user" + i + "@bookwise.com", record.subject());
+		}
+	}
+
+	@Test
+	void shouldContinueAfterTheLastValidRecordOnReopen() throws IOException {
+		try (AuditLogWriter writer = new AuditLogWriter(properties(AuditLogProperties.FsyncPolicy.NONE))) {
+			writer.append(AuditRecord.of(AuditEventType.LOGIN_FAILURE, null, null, "a@bookwise.com"));
+			writer.append(AuditRecord.of(AuditEventType.LOGOUT, null, null, "b@bookwise.com"));
+		}
+
+		// simula uma queda no meio da gravação do segundo registro
+		Path segment = AuditSegment.list(directory).getFirst();
+		try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), AuditSegment.HEADER_SIZE + AuditSegment.RECORD_SIZE + 60L);
+		}
+
+		try (AuditLogWriter writer = new AuditLogWriter(properties(AuditLogProperties.FsyncPolicy.INTERVAL))) {
+			writer.append(AuditRecord.of(AuditEventType.PASSWORD_CHANGE, null, null, "c@bookwise.com"));
+		}
+
+		List<AuditRecord> read = read();
+		assertEquals(2, read.size());
+		assertEquals("a@bookwise.com", read.get(0).subject());
+		assertEquals(2, read.get(1).sequence());
+		assertEquals(AuditEventType.PASSWORD_CHANGE, read.get(1).type());
+	}
+
+	@Test
+	void shouldTruncateLongSubjectsWithoutSplittingCharacters() throws IOException {
+		String subject = "ç".repeat(50);   // 100 bytes em UTF-8
+		try (AuditLogWriter writer = new AuditLogWriter(properties(AuditLogProperties.FsyncPolicy.NONE))) {
+			writer.append(AuditRecord.of(AuditEventType.LOGIN_FAILURE, null, null, subject));
+		}
+
+		AuditRecord record = read().getFirst();
+		assertEquals("ç".repeat(36), record.subject());
+		assertNull(record.userId());
+		assertNull(record.address());
+		assertEquals("{\"seq\":1,\"time\":\"%s\",\"type\":\"LOGIN_FAILURE\",\"subject\":\"%s\"}"
+				.formatted(Instant.ofEpochMilli(record.timestamp()), record.subject()), AuditLogReader.toJson(record));
+	}
+
+	private List<AuditRecord> read() throws IOException {
+		List<AuditRecord> records = new ArrayList<>();
+		AuditLogReader.scan(directory, records::add);
+		return records;
+	}
+
+	private AuditLogProperties properties(AuditLogProperties.FsyncPolicy fsync) {
+		AuditLogProperties properties = new AuditLogProperties();
+		properties.setDirectory(directory.toString());
+		properties.setSegmentSize(DataSize.ofMegabytes(1));
+		properties.setQueueCapacity(1024);
+		properties.setFsync(fsync);
+		return properties;
+	}
+}
@@ -0,0 +1,95 @@
+package com.bookWise.user.service.benchmark;
+
+import com.bookWise.user.service.model.dto.UserProfileDTO;
+import com.bookWise.user.service.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara a leitura do perfil pela entidade em cache ({@code findById} + {@code UserProfileDTO.from},
+ * que busca o grupo lazy {@code profile} no banco) com a projeção {@code findProfileById}:
+ * comandos SQL, tempo e alocação por leitura. Usa o banco configurado da aplicação, com
+ * usuários já cadastrados:
+ * <pre>
+ * mvn test -Dtest=UserProfileReadBenchmarkTest -Dbenchmark.profile-reads=true -Dbenchmark.reads=20000
+ * </pre>
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark.profile-reads", matches = "true")
+class UserProfileReadBenchmarkTest {
+
+	private static final int USERS = 200;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void shouldReadProfilesWithNoMoreStatementsThroughTheProjection() {
+		int reads = Integer.getInteger("benchmark.reads", 20_000);
+		List<UUID> ids = userRepository.findExportPage(Limit.of(USERS)).stream().map(user -> user.id()).toList();
+		assertTrue(!ids.isEmpty(), "o benchmark precisa de usuários cadastrados");
+
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		Function<UUID, UserProfileDTO> entity = id -> readOnly.execute(status ->
+				userRepository.findById(id).map(UserProfileDTO::from).orElseThrow());
+		Function<UUID, UserProfileDTO> projection = id -> readOnly.execute(status ->
+				userRepository.findProfileById(id).orElseThrow());
+
+		// aquece o JIT e o cache de segundo nível, e confere que os dois caminhos concordam
+		for (int i = 0; i < reads / 4; i++) {
+			UUID id = ids.get(i % ids.size());
+			assertEquals(entity.apply(id), projection.apply(id));
+		}
+
+		Result byEntity = run(entity, ids, reads);
+		Result byProjection = run(projection, ids, reads);
+
+		System.out.printf("%-10s %14s %14s %14s%n", "caminho", "SQL/leitura", "us/leitura", "bytes/leitura");
+		System.out.printf("%-10s %14.2f %14.1f %14d%n", "entidade", byEntity.statements(), byEntity.micros(), byEntity.bytes());
+		System.out.printf("%-10s %14.2f %14.1f %14d%n", "projeção", byProjection.statements(), byProjection.micros(), byProjection.bytes());
+
+		assertTrue(byProjection.statements() <= byEntity.statements());
+	}
+
+	private Result run(Function<UUID, UserProfileDTO> read, List<UUID> ids, int reads) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+		long statementsBefore = statistics.getPrepareStatementCount();
+		long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+		long start = System.nanoTime();
+		for (int i = 0; i < reads; i++) {
+			read.apply(ids.get(i % ids.size()));
+		}
+		long elapsedNanos = System.nanoTime() - start;
+
+		return new Result((double) (statistics.getPrepareStatementCount() - statementsBefore) / reads,
+				elapsedNanos / 1000.0 / reads, (threads.getCurrentThreadAllocatedBytes() - bytesBefore) / reads);
+	}
+
+	private record Result(double statements, double micros, long bytes) {
+	}
+}
@@ -0,0 +1,96 @@
+package com.bookWise.user.service.benchmark;
+
+import com.bookWise.user.service.util.UuidV7;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara chaves primárias UUIDv4 e UUIDv7 no Postgres: vazão de insert, tamanho do índice
+ * da chave primária e WAL gerado. Só roda quando apontado para um banco, por exemplo:
+ * <pre>
+ * mvn test -Dtest=UuidPrimaryKeyBenchmarkTest -Dbenchmark.jdbc-url=jdbc:postgresql://localhost:5432/bookWisedb \
+ *     -Dbenchmark.jdbc-user=user -Dbenchmark.jdbc-password=312319 -Dbenchmark.rows=500000
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark.jdbc-url", matches = ".+")
+class UuidPrimaryKeyBenchmarkTest {
+
+	private static final int BATCH_SIZE = 1000;
+
+	@Test
+	void shouldProduceSmallerPrimaryKeyIndexWithUuidV7() throws SQLException {
+		int rows = Integer.getInteger("benchmark.rows", 200_000);
+
+		try (Connection connection = DriverManager.getConnection(System.getProperty("benchmark.jdbc-url"),
+				System.getProperty("benchmark.jdbc-user"), System.getProperty("benchmark.jdbc-password"))) {
+			connection.setAutoCommit(false);
+
+			Result v4 = run(connection, "bench_uuid_v4", rows, UUID::randomUUID);
+			Result v7 = run(connection, "bench_uuid_v7", rows, UuidV7::randomUuid);
+
+			System.out.printf("%-8s %12s %14s %14s%n", "versão", "inserts/s", "índice (KiB)", "WAL (KiB)");
+			System.out.printf("%-8s %12d %14d %14d%n", "v4", v4.rowsPerSecond(), v4.indexBytes() / 1024, v4.walBytes() / 1024);
+			System.out.printf("%-8s %12d %14d %14d%n", "v7", v7.rowsPerSecond(), v7.indexBytes() / 1024, v7.walBytes() / 1024);
+
+			assertTrue(v7.indexBytes() <= v4.indexBytes());
+		}
+	}
+
+	private Result run(Connection connection, String table, int rows, Supplier<UUID> ids) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("drop table if exists " + table);
+			statement.execute("create table " + table + " (id uuid primary key, created_at timestamptz not null default now())");
+			connection.commit();
+
+			long walStart = currentWal(statement);
+			long start = System.nanoTime();
+
+			try (PreparedStatement insert = connection.prepareStatement("insert into " + table + " (id) values (?)")) {
+				for (int i = 1; i <= rows; i++) {
+					insert.setObject(1, ids.get());
+					insert.addBatch();
+					if (i % BATCH_SIZE == 0) {
+						insert.executeBatch();
+						connection.commit();
+					}
+				}
+				insert.executeBatch();
+				connection.commit();
+			}
+
+			long elapsedNanos = System.nanoTime() - start;
+			long walBytes = currentWal(statement) - walStart;
+			long indexBytes;
+			try (ResultSet rs = statement.executeQuery("select pg_relation_size('" + table + "_pkey')")) {
+				rs.next();
+				indexBytes = rs.getLong(1);
+			}
+
+			statement.execute("drop table " + table);
+			connection.commit();
+
+			return new Result(rows * 1_000_000_000L / elapsedNanos, indexBytes, walBytes);
+		}
+	}
+
+	private long currentWal(Statement statement) throws SQLException {
+		try (ResultSet rs = statement.executeQuery("select pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')::bigint")) {
+			rs.next();
+			return rs.getLong(1);
+		}
+	}
+
+	private record Result(long rowsPerSecond, long indexBytes, long walBytes) {
+	}
+}
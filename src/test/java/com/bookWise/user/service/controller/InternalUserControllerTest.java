@@ -0,0 +1,71 @@
+package com.bookWise.user.service.controller;
+
+import com.bookWise.user.service.config.UserProperties;
+import com.bookWise.user.service.exception.AuthenticationException;
+import com.bookWise.user.service.service.UserExportService;
+import com.bookWise.user.service.service.UserImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InternalUserControllerTest {
+
+	private static final String CLIENT_KEY = "bulk-client-key-0123456789abcdefghij";
+
+	@Mock
+	private UserExportService userExportService;
+
+	@Mock
+	private UserImportService userImportService;
+
+	@Spy
+	private UserProperties userProperties = new UserProperties();
+
+	@InjectMocks
+	private InternalUserController internalUserController;
+
+	@BeforeEach
+	void setUp() {
+		userProperties.setBulkClientKeys(List.of(CLIENT_KEY));
+	}
+
+	@Test
+	void shouldRejectExportWithoutAValidClientKey() {
+		assertThrows(AuthenticationException.class, () -> internalUserController.export(null));
+		assertThrows(AuthenticationException.class, () -> internalUserController.export(CLIENT_KEY + "x"));
+		verifyNoInteractions(userExportService);
+	}
+
+	@Test
+	void shouldRejectImportWithoutAValidClientKey() {
+		InputStream body = new ByteArrayInputStream(new byte[0]);
+
+		assertThrows(AuthenticationException.class, () -> internalUserController.importNdjson(null, body));
+		assertThrows(AuthenticationException.class, () -> internalUserController.importCsv("wrong", body));
+		verifyNoInteractions(userImportService);
+	}
+
+	@Test
+	void shouldRejectEveryClientWhenNoKeysAreConfigured() {
+		userProperties.setBulkClientKeys(List.of());
+
+		assertThrows(AuthenticationException.class, () -> internalUserController.export(CLIENT_KEY));
+	}
+
+	@Test
+	void shouldExportWithAValidClientKey() {
+		assertEquals(200, internalUserController.export(CLIENT_KEY).getStatusCode().value());
+	}
+}
@@ -1,5 +1,6 @@
 package com.bookWise.user.service.controller;
 
+import com.bookWise.user.service.audit.AuditLog;
 import com.bookWise.user.service.model.dto.AccessTokenDTO;
 import com.bookWise.user.service.model.dto.ChangePasswordRequest;
 import com.bookWise.user.service.model.dto.LoginRequest;
@@ -24,6 +25,9 @@ class UserAuthControllerTest {
 	@Mock
 	private UserAuthService userAuthService;
 
+	@Mock
+	private AuditLog auditLog;
+
 	@InjectMocks
 	private UserAuthController userAuthController;
 
@@ -0,0 +1,68 @@
+package com.bookWise.user.service.health;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedHealthIndicatorTest {
+
+	private final AtomicLong now = new AtomicLong();
+	private final AtomicInteger checks = new AtomicInteger();
+	private final AtomicReference<Health> delegateHealth = new AtomicReference<>(Health.up().build());
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CachedHealthIndicator indicator = new CachedHealthIndicator("db", () -> {
+		checks.incrementAndGet();
+		return delegateHealth.get();
+	}, Duration.ofSeconds(30), meterRegistry, now::get);
+
+	@Test
+	void shouldBeDownUntilTheFirstCheck() {
+		assertEquals(Status.DOWN, indicator.health().getStatus());
+		assertEquals(0, checks.get());
+	}
+
+	@Test
+	void shouldAnswerProbesFromTheCachedResult() {
+		indicator.refresh();
+
+		for (int i = 0; i < 5; i++) {
+			assertEquals(Status.UP, indicator.health().getStatus());
+		}
+		assertEquals(1, checks.get());
+		assertEquals(5, meterRegistry.get("health.probe").tag("component", "db").timer().count());
+		assertEquals(1, meterRegistry.get("health.check").tag("status", "UP").timer().count());
+
+		delegateHealth.set(Health.down().build());
+		indicator.refresh();
+		assertEquals(Status.DOWN, indicator.health().getStatus());
+	}
+
+	@Test
+	void shouldReportDownWhenTheCachedResultIsStale() {
+		indicator.refresh();
+		now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+		Health health = indicator.health();
+		assertEquals(Status.DOWN, health.getStatus());
+		assertEquals("Resultado em cache expirado", health.getDetails().get("reason"));
+	}
+
+	@Test
+	void shouldCacheFailedChecksAsDown() {
+		CachedHealthIndicator failing = new CachedHealthIndicator("rabbit", () -> {
+			throw new IllegalStateException("broker fora do ar");
+		}, Duration.ofSeconds(30), meterRegistry, now::get);
+
+		failing.refresh();
+
+		assertEquals(Status.DOWN, failing.health().getStatus());
+	}
+}
@@ -0,0 +1,52 @@
+package com.bookWise.user.service.jfr;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrPhaseAnalyzerTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void shouldSummarizeEachPhaseByOutcome() throws Exception {
+		Path file = dir.resolve("fases.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(TokenParseEvent.NAME).withThreshold(Duration.ZERO);
+			recording.enable(UserLoadEvent.NAME).withThreshold(Duration.ZERO);
+			recording.start();
+
+			for (int i = 0; i < 3; i++) {
+				TokenParseEvent parseEvent = new TokenParseEvent();
+				parseEvent.begin();
+				parseEvent.finish("VALID");
+			}
+			TokenParseEvent expired = new TokenParseEvent();
+			expired.begin();
+			expired.finish("EXPIRED");
+
+			UserLoadEvent loadEvent = new UserLoadEvent();
+			loadEvent.begin();
+			loadEvent.lookup = "ID";
+			loadEvent.finish("FOUND");
+
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<JfrPhaseAnalyzer.PhaseSummary> summaries = JfrPhaseAnalyzer.analyze(file);
+
+		assertEquals(List.of("TokenParse/EXPIRED", "TokenParse/VALID", "UserLoad/FOUND"),
+				summaries.stream().map(summary -> summary.phase() + "/" + summary.outcome()).toList());
+		assertEquals(3, summaries.get(1).count());
+		JfrPhaseAnalyzer.PhaseSummary valid = summaries.get(1);
+		assertTrue(valid.p50Nanos() <= valid.p99Nanos() && valid.p99Nanos() <= valid.maxNanos());
+	}
+}
@@ -0,0 +1,83 @@
+package com.bookWise.user.service.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+	private final LoggerContext context = new LoggerContext();
+	private final Logger logger = context.getLogger(RateLimitFilterTest.class);
+	private final AtomicLong now = new AtomicLong();
+	private final RateLimitFilter filter = new RateLimitFilter(2, Duration.ofSeconds(10), List.of("org.hibernate"), now::get);
+
+	@Test
+	void shouldSuppressRepeatedMessagesUntilTheIntervalEnds() {
+		assertEquals(FilterReply.NEUTRAL, filter.decide(event(Level.WARN, "Token JWT rejeitado {}", "a")));
+		assertEquals(FilterReply.NEUTRAL, filter.decide(event(Level.WARN, "Token JWT rejeitado {}", "b")));
+		assertEquals(FilterReply.DENY, filter.decide(event(Level.WARN, "Token JWT rejeitado {}", "c")));
+		assertEquals(FilterReply.NEUTRAL, filter.decide(event(Level.WARN, "Outra mensagem", null)));
+		assertEquals(1, filter.getSuppressedCount());
+
+		now.addAndGet(Duration.ofSeconds(10).toNanos());
+		assertEquals(FilterReply.NEUTRAL, filter.decide(event(Level.WARN, "Token JWT rejeitado {}", "d")));
+	}
+
+	@Test
+	void shouldNotLimitErrorsOrDebugMessages() {
+		for (int i = 0; i < 10; i++) {
+			assertEquals(FilterReply.NEUTRAL, filter.decide(event(Level.ERROR, "Erro", null)));
+			assertEquals(FilterReply.NEUTRAL, filter.decide(event(Level.DEBUG, "Depuração", null)));
+		}
+		assertEquals(0, filter.getSuppressedCount());
+	}
+
+	@Test
+	void shouldStopTrackingNewMessagesAboveTheLimit() {
+		for (int i = 0; i < RateLimitFilter.MAX_TRACKED_MESSAGES; i++) {
+			filter.decide(event(Level.INFO, "Mensagem " + i, null));
+		}
+
+		for (int i = 0; i < 10; i++) {
+			assertEquals(FilterReply.NEUTRAL, filter.decide(event(Level.INFO, "Mensagem dinâmica", null)));
+		}
+	}
+
+	@Test
+	void shouldNeverLimitUnmarkedLinesOutsideTheConfiguredLoggers() {
+		for (int i = 0; i < 10; i++) {
+			assertEquals(FilterReply.NEUTRAL, filter.decide(unmarked(logger, "Usuário registrado com sucesso")));
+			assertEquals(FilterReply.NEUTRAL, filter.decide(unmarked(context.getLogger("org.hibernateX"), "Parecido")));
+		}
+		assertEquals(0, filter.getSuppressedCount());
+	}
+
+	@Test
+	void shouldLimitUnmarkedLinesOfTheConfiguredLoggersAndTheirChildren() {
+		Logger child = context.getLogger("org.hibernate.orm.deprecation");
+		assertEquals(FilterReply.NEUTRAL, filter.decide(unmarked(child, "Obsoleto")));
+		assertEquals(FilterReply.NEUTRAL, filter.decide(unmarked(child, "Obsoleto")));
+		assertEquals(FilterReply.DENY, filter.decide(unmarked(child, "Obsoleto")));
+		assertEquals(1, filter.getSuppressedCount());
+	}
+
+	private LoggingEvent event(Level level, String message, Object argument) {
+		LoggingEvent event = new LoggingEvent(Logger.FQCN, logger, level, message, null,
+				argument == null ? null : new Object[]{argument});
+		event.addMarker(RateLimitFilter.RATE_LIMITED);
+		return event;
+	}
+
+	private LoggingEvent unmarked(Logger source, String message) {
+		return new LoggingEvent(Logger.FQCN, source, Level.WARN, message, null, null);
+	}
+}
@@ -0,0 +1,68 @@
+package com.bookWise.user.service.security;
+
+import com.bookWise.user.service.config.JwtProperties;
+import com.bookWise.user.service.metrics.AuthMetrics;
+import com.bookWise.user.service.model.entity.User;
+import com.bookWise.user.service.repository.UserAuthRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtProviderTest {
+
+	private static final String SECRET = "yrnt4BE6yc21XfQidT6ooRvjzzif2k0CdCdPiX4Qors9XhREarz0nq4nHh8tUwsO";
+
+	private final UserAuthRepository userAuthRepository = mock(UserAuthRepository.class);
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		when(userAuthRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		user = new User();
+		user.setId(UUID.randomUUID());
+		user.setName("Test User");
+		user.setEmail("test@bookwise.com");
+	}
+
+	@Test
+	void compactTokensShouldBeShorterAndCarryTheSameUserId() {
+		String standard = provider(JwtProperties.TokenFormat.STANDARD).generateAccessToken(user);
+		String compact = provider(JwtProperties.TokenFormat.COMPACT).generateAccessToken(user);
+
+		assertTrue(compact.length() < standard.length() * 0.75,
+				() -> "compact: " + compact.length() + ", standard: " + standard.length());
+		JwtProvider reader = provider(JwtProperties.TokenFormat.COMPACT);
+		assertEquals(user.getId().toString(), reader.getUserIdFromJWT(compact));
+		assertEquals(user.getId().toString(), reader.getUserIdFromJWT(standard));
+	}
+
+	@Test
+	void shouldAcceptTokensOfBothFormatsWhileSwitching() {
+		JwtProvider standard = provider(JwtProperties.TokenFormat.STANDARD);
+		JwtProvider compact = provider(JwtProperties.TokenFormat.COMPACT);
+
+		assertTrue(compact.validateToken(standard.generateAccessToken(user)));
+		assertTrue(compact.validateToken(standard.generateRefreshToken(user)));
+		assertTrue(standard.validateToken(compact.generateAccessToken(user)));
+		assertEquals(user.getEmail(), standard.getUsernameFromJWT(compact.generateRefreshToken(user)));
+	}
+
+	private JwtProvider provider(JwtProperties.TokenFormat format) {
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setSecretKey(SECRET);
+		jwtProperties.setTokenFormat(format);
+
+		JwtProvider jwtProvider = new JwtProvider(jwtProperties, userAuthRepository,
+				new AuthMetrics(new SimpleMeterRegistry()));
+		jwtProvider.init();
+		return jwtProvider;
+	}
+}
@@ -0,0 +1,64 @@
+package com.bookWise.user.service.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlatformThreadPasswordEncoderTest {
+
+	private final AtomicReference<Thread> hashingThread = new AtomicReference<>();
+	private final PlatformThreadPasswordEncoder encoder = new PlatformThreadPasswordEncoder(new PasswordEncoder() {
+		@Override
+		public String encode(CharSequence rawPassword) {
+			hashingThread.set(Thread.currentThread());
+			if (rawPassword.isEmpty()) {
+				throw new IllegalArgumentException("senha vazia");
+			}
+			return "hash:" + rawPassword;
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			return encode(rawPassword).equals(encodedPassword);
+		}
+	}, 1);
+
+	@AfterEach
+	void tearDown() {
+		encoder.close();
+	}
+
+	@Test
+	void shouldHashOnAPlatformThreadWhenCalledFromAVirtualThread() throws Exception {
+		AtomicReference<String> hash = new AtomicReference<>();
+		Thread.ofVirtual().start(() -> hash.set(encoder.encode("secret"))).join();
+
+		assertEquals("hash:secret", hash.get());
+		assertFalse(hashingThread.get().isVirtual());
+		assertTrue(hashingThread.get().getName().startsWith("password-hash-"));
+	}
+
+	@Test
+	void shouldHashInlineOnPlatformThreads() {
+		assertTrue(encoder.matches("secret", "hash:secret"));
+		assertSame(Thread.currentThread(), hashingThread.get());
+	}
+
+	@Test
+	void shouldRethrowTheEncoderException() throws Exception {
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread.ofVirtual().start(() -> {
+			try {
+				encoder.encode("");
+			} catch (Throwable e) {
+				failure.set(e);
+			}
+		}).join();
+
+		assertInstanceOf(IllegalArgumentException.class, failure.get());
+	}
+}
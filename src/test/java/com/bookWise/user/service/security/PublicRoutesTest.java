@@ -0,0 +1,64 @@
+package com.bookWise.user.service.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PublicRoutesTest {
+
+	private final PublicRoutes publicRoutes = new PublicRoutes();
+
+	@Test
+	void shouldMatchPublicRoutesBehindTheContextPath() {
+		assertTrue(publicRoutes.matches(request("POST", "/api/v1", "/auth/login")));
+		assertTrue(publicRoutes.matches(request("POST", "/api/v1", "/auth/refresh")));
+		assertTrue(publicRoutes.matches(request("POST", "/api/v1", "/users")));
+		assertTrue(publicRoutes.matches(request("GET", "/api/v1", "/users/email-available")));
+		assertTrue(publicRoutes.matches(request("GET", "/api/v1", "/actuator/health")));
+		assertTrue(publicRoutes.matches(request("GET", "/api/v1", "/actuator/health/readiness")));
+		assertTrue(publicRoutes.matches(request("GET", "/api/v1", "/swagger-ui/index.html")));
+		assertTrue(publicRoutes.matches(request("GET", "/api/v1", "/v3/api-docs")));
+	}
+
+	@Test
+	void shouldMatchPublicRoutesWithoutContextPath() {
+		assertTrue(publicRoutes.matches(request("POST", "", "/auth/login")));
+		assertFalse(publicRoutes.matches(request("GET", "", "/users/me")));
+	}
+
+	@Test
+	void shouldNotIgnoreTheContextPath() {
+		// a rota só é pública relativa ao context-path, não em qualquer posição do caminho
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+		request.setContextPath("/api/v1");
+		assertFalse(publicRoutes.matches(request));
+		assertFalse(publicRoutes.matches(request("POST", "/api/v1", "/api/v1/auth/login")));
+	}
+
+	@Test
+	void shouldProtectOtherRoutesAndMethods() {
+		assertFalse(publicRoutes.matches(request("GET", "/api/v1", "/users")));
+		assertFalse(publicRoutes.matches(request("PUT", "/api/v1", "/users/2f1c7a4e-8d0b-4c39-9d0e-0a6f0c1b2d3e")));
+		assertFalse(publicRoutes.matches(request("POST", "/api/v1", "/auth/change-password")));
+		assertFalse(publicRoutes.matches(request("POST", "/api/v1", "/auth/login/extra")));
+		assertFalse(publicRoutes.matches(request("GET", "/api/v1", "/actuator/metrics")));
+		assertFalse(publicRoutes.matches(request("GET", "/api/v1", "/actuator/healthz")));
+		assertFalse(publicRoutes.matches(request("GET", "/api/v1", "/swagger-uix")));
+		assertFalse(publicRoutes.matches(request("GET", "/api/v1", "")));
+	}
+
+	@Test
+	void shouldRejectUnsupportedPatterns() {
+		assertThrows(IllegalArgumentException.class, () -> RouteTable.builder().route("/users/*/avatar"));
+		assertThrows(IllegalArgumentException.class, () -> RouteTable.builder().route(HttpMethod.GET, "/users/{id}"));
+		assertThrows(IllegalArgumentException.class, () -> RouteTable.builder().route("users"));
+	}
+
+	private MockHttpServletRequest request(String method, String contextPath, String path) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, contextPath + path);
+		request.setContextPath(contextPath);
+		return request;
+	}
+}
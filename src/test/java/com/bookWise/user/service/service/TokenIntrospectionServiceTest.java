@@ -0,0 +1,95 @@
+package com.bookWise.user.service.service;
+
+import com.bookWise.user.service.config.TokenIntrospectionProperties;
+import com.bookWise.user.service.exception.AuthenticationException;
+import com.bookWise.user.service.metrics.AuthMetrics.TokenValidation;
+import com.bookWise.user.service.model.dto.TokenIntrospectionDTO;
+import com.bookWise.user.service.model.dto.TokenIntrospectionResult;
+import com.bookWise.user.service.security.JwtProvider;
+import com.bookWise.user.service.security.TokenProvider;
+import com.bookWise.user.service.security.TokenValidationResult;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TokenIntrospectionServiceTest {
+
+	private static final String CLIENT_KEY = "gateway-0123456789abcdef0123456789abcdef";
+
+	private final TokenProvider tokenProvider = mock(TokenProvider.class);
+	private final TokenIntrospectionProperties properties = new TokenIntrospectionProperties();
+	private TokenIntrospectionService service;
+
+	private final long expiresAt = System.currentTimeMillis() + Duration.ofMinutes(2).toMillis();
+
+	@BeforeEach
+	void setUp() {
+		properties.setClientKeys(List.of(CLIENT_KEY));
+		properties.setMaxTokens(3);
+		service = new TokenIntrospectionService(tokenProvider, properties, new SimpleMeterRegistry());
+
+		when(tokenProvider.validate("access")).thenReturn(TokenValidationResult.valid(claims(null)));
+		when(tokenProvider.validate("refresh")).thenReturn(TokenValidationResult.valid(claims("refresh")));
+		when(tokenProvider.validate("forged")).thenReturn(TokenValidationResult.rejected(TokenValidation.SIGNATURE));
+	}
+
+	@Test
+	void shouldReportOnlyValidAccessTokensAsActive() {
+		TokenIntrospectionResult result = service.introspect(List.of("access", "refresh", "forged"));
+
+		assertEquals(new TokenIntrospectionDTO(true, "u1@x.com", "e761a3e9-d0b1-4a88-8e42-9fdfe971cfb5", expiresAt / 1000),
+				result.tokens().get(0));
+		assertEquals(TokenIntrospectionDTO.INACTIVE, result.tokens().get(1));
+		assertEquals(TokenIntrospectionDTO.INACTIVE, result.tokens().get(2));
+	}
+
+	@Test
+	void shouldVerifyEachValidTokenOnlyOnce() {
+		service.introspect(List.of("access", "access", "forged"));
+		service.introspect(List.of("access", "forged"));
+
+		verify(tokenProvider, times(1)).validate("access");
+		verify(tokenProvider, times(2)).validate("forged");
+	}
+
+	@Test
+	void shouldBoundMaxAgeByTheFirstTokenToExpire() {
+		Duration maxAge = service.maxAge(service.introspect(List.of("access", "forged")));
+		assertTrue(maxAge.compareTo(Duration.ofMinutes(2)) <= 0 && maxAge.compareTo(Duration.ofSeconds(100)) > 0);
+
+		assertEquals(properties.getCacheTtl(), service.maxAge(service.introspect(List.of("forged"))));
+	}
+
+	@Test
+	void shouldRejectTooManyTokens() {
+		assertThrows(IllegalArgumentException.class,
+				() -> service.introspect(List.of("access", "access", "access", "access")));
+	}
+
+	@Test
+	void shouldRejectUnknownClients() {
+		assertDoesNotThrow(() -> service.authorizeClient(CLIENT_KEY));
+		assertThrows(AuthenticationException.class, () -> service.authorizeClient(null));
+		assertThrows(AuthenticationException.class, () -> service.authorizeClient(CLIENT_KEY + "x"));
+	}
+
+	private Claims claims(String type) {
+		Claims claims = Jwts.claims();
+		claims.setSubject("u1@x.com");
+		claims.setExpiration(new Date(expiresAt));
+		claims.put(JwtProvider.CLAIM_KEY_USER_ID, "e761a3e9-d0b1-4a88-8e42-9fdfe971cfb5");
+		if (type != null) {
+			claims.put(JwtProvider.CLAIM_KEY_TYPE, type);
+		}
+		return claims;
+	}
+}
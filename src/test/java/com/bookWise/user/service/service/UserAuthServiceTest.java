@@ -1,5 +1,7 @@
 package com.bookWise.user.service.service;
 
+import com.bookWise.user.service.audit.AuditEventType;
+import com.bookWise.user.service.audit.AuditLog;
 import com.bookWise.user.service.exception.AuthenticationException;
 import com.bookWise.user.service.model.dto.AccessTokenDTO;
 import com.bookWise.user.service.model.entity.User;
@@ -19,6 +21,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +36,15 @@ class UserAuthServiceTest {
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
+	@Mock
+	private LastLoginTracker lastLoginTracker;
+
+	@Mock
+	private EmailExistenceFilter emailExistenceFilter;
+
+	@Mock
+	private AuditLog auditLog;
+
 	@InjectMocks
 	private UserAuthService userAuthService;
 
@@ -54,7 +66,9 @@ class UserAuthServiceTest {
 
 	@Test
 	void shouldReturnTokensWhenLoginWithValidCredentials() {
-		when(userRepository.findByEmailIgnoreCase(email)).thenReturn(Optional.of(user));
+		when(emailExistenceFilter.mightExist(email)).thenReturn(true);
+		when(userRepository.findByEmailBypassingCache(email)).thenReturn(Optional.of(user));
+		when(passwordEncoder.matches(password, encodedPassword)).thenReturn(true);
 		when(tokenProvider.generateAccessToken(user)).thenReturn(accessToken);
 		when(tokenProvider.generateRefreshToken(user)).thenReturn(refreshToken);
 
@@ -63,33 +77,64 @@ class UserAuthServiceTest {
 		assertNotNull(result);
 		assertEquals(accessToken, result.getAccessToken());
 		assertEquals(refreshToken, result.getRefreshToken());
-		verify(userRepository).findByEmailIgnoreCase(email);
+		verify(userRepository).findByEmailBypassingCache(email);
 		verify(tokenProvider).generateAccessToken(user);
 		verify(tokenProvider).generateRefreshToken(user);
+		verify(lastLoginTracker).recordLogin(eq(user.getId()), any());
+		verify(auditLog).record(AuditEventType.LOGIN_SUCCESS, user.getId(), email);
 	}
 
 	@Test
 	void shouldThrowUsernameNotFoundExceptionWhenLoginWithInvalidEmail() {
-		when(userRepository.findByEmailIgnoreCase(email)).thenReturn(Optional.empty());
+		when(emailExistenceFilter.mightExist(email)).thenReturn(true);
+		when(userRepository.findByEmailBypassingCache(email)).thenReturn(Optional.empty());
 
 		assertThrows(UsernameNotFoundException.class, () -> {
 			userAuthService.login(email, password);
 		});
 
-		verify(userRepository).findByEmailIgnoreCase(email);
+		verify(userRepository).findByEmailBypassingCache(email);
 		verifyNoInteractions(passwordEncoder, tokenProvider);
 	}
 
+	@Test
+	void shouldRejectLoginWithWrongPasswordLikeAnUnknownEmail() {
+		when(emailExistenceFilter.mightExist(email)).thenReturn(true);
+		when(userRepository.findByEmailBypassingCache(email)).thenReturn(Optional.of(user));
+		when(passwordEncoder.matches("wrong-password", encodedPassword)).thenReturn(false);
+
+		assertThrows(UsernameNotFoundException.class, () -> {
+			userAuthService.login(email, "wrong-password");
+		});
+
+		verifyNoInteractions(tokenProvider, lastLoginTracker);
+		verify(auditLog).record(AuditEventType.LOGIN_FAILURE, user.getId(), email);
+	}
+
+	@Test
+	void shouldRejectLoginWithoutQueryingRepositoryWhenEmailFilterMisses() {
+		when(emailExistenceFilter.mightExist(email)).thenReturn(false);
+
+		assertThrows(UsernameNotFoundException.class, () -> {
+			userAuthService.login(email, password);
+		});
+
+		verifyNoInteractions(userRepository, tokenProvider);
+		verify(auditLog).record(AuditEventType.LOGIN_FAILURE, null, email);
+	}
+
 	@Test
 	void shouldThrowAuthenticationExceptionWhenTokenGenerationFails() {
-		when(userRepository.findByEmailIgnoreCase(email)).thenReturn(Optional.of(user));
+		when(emailExistenceFilter.mightExist(email)).thenReturn(true);
+		when(userRepository.findByEmailBypassingCache(email)).thenReturn(Optional.of(user));
+		when(passwordEncoder.matches(password, encodedPassword)).thenReturn(true);
 		when(tokenProvider.generateAccessToken(user)).thenThrow(new RuntimeException("Token generation failed"));
 
 		assertThrows(AuthenticationException.class, () -> {
 			userAuthService.login(email, password);
 		});
 
-		verify(userRepository).findByEmailIgnoreCase(email);
+		verify(userRepository).findByEmailBypassingCache(email);
 		verify(tokenProvider).generateAccessToken(user);
 	}
 
@@ -98,7 +143,7 @@ class UserAuthServiceTest {
 		String newPassword = "newPassword123";
 		String encodedNewPassword = "encodedNewPassword123";
 
-		when(userRepository.findByEmailIgnoreCase(email)).thenReturn(Optional.of(user));
+		when(userRepository.findByEmailBypassingCache(email)).thenReturn(Optional.of(user));
 		when(passwordEncoder.matches(password, encodedPassword)).thenReturn(true);
 		when(passwordEncoder.matches(newPassword, encodedPassword)).thenReturn(false);
 		when(passwordEncoder.encode(newPassword)).thenReturn(encodedNewPassword);
@@ -106,11 +151,12 @@ class UserAuthServiceTest {
 
 		userAuthService.changePassword(email, password, newPassword);
 
-		verify(userRepository).findByEmailIgnoreCase(email);
+		verify(userRepository).findByEmailBypassingCache(email);
 		verify(passwordEncoder).matches(password, encodedPassword);
 		verify(passwordEncoder).matches(newPassword, encodedPassword);
 		verify(passwordEncoder).encode(newPassword);
 		verify(userRepository).save(any(User.class));
+		verify(auditLog).record(AuditEventType.PASSWORD_CHANGE, user.getId(), email);
 	}
 
 	@Test
@@ -133,5 +179,6 @@ class UserAuthServiceTest {
 		verify(userRepository).findById(userId);
 		verify(tokenProvider).generateAccessToken(user);
 		verify(tokenProvider).generateRefreshToken(user);
+		verify(auditLog).record(AuditEventType.TOKEN_REFRESH, userId, email);
 	}
 }
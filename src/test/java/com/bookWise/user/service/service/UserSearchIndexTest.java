@@ -0,0 +1,86 @@
+package com.bookWise.user.service.service;
+
+import com.bookWise.user.service.config.UserProperties;
+import com.bookWise.user.service.model.dto.UserSummaryDTO;
+import com.bookWise.user.service.model.enums.EventType;
+import com.bookWise.user.service.model.event.UserEvent;
+import com.bookWise.user.service.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSearchIndexTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private UserProperties userProperties;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private RabbitListenerEndpointRegistry listenerEndpointRegistry;
+
+	private UserSearchIndex userSearchIndex;
+
+	private final UUID joaoId = UUID.randomUUID();
+	private final UUID mariaId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		userSearchIndex = new UserSearchIndex(userRepository, userProperties, transactionManager,
+				listenerEndpointRegistry, new SimpleMeterRegistry());
+		userSearchIndex.index(new UserSummaryDTO(joaoId, "João da Silva", null), "joao@example.com");
+		userSearchIndex.index(new UserSummaryDTO(mariaId, "Maria Silveira", null), "maria@example.com");
+	}
+
+	@Test
+	void shouldFindUsersByNameWordPrefixIgnoringCaseAndAccents() {
+		List<UserSummaryDTO> result = userSearchIndex.search("SIL", 10);
+
+		assertEquals(2, result.size());
+		assertTrue(result.stream().anyMatch(user -> user.id().equals(joaoId)));
+		assertTrue(result.stream().anyMatch(user -> user.id().equals(mariaId)));
+		assertEquals(List.of(joaoId), userSearchIndex.search("joão da", 10).stream().map(UserSummaryDTO::id).toList());
+	}
+
+	@Test
+	void shouldFindUserByEmailPrefixAndRespectLimit() {
+		assertEquals(List.of(mariaId), userSearchIndex.search("maria@", 10).stream().map(UserSummaryDTO::id).toList());
+		assertEquals(1, userSearchIndex.search("s", 1).size());
+	}
+
+	@Test
+	void shouldReplaceTermsWhenUserIsReindexed() {
+		userSearchIndex.index(new UserSummaryDTO(joaoId, "João Pereira", null), "joao@example.com");
+
+		assertEquals(List.of(mariaId), userSearchIndex.search("silv", 10).stream().map(UserSummaryDTO::id).toList());
+		assertEquals("João Pereira", userSearchIndex.search("pere", 10).get(0).name());
+	}
+
+	@Test
+	void shouldIndexUsersCreatedOrRenamedOnOtherInstances() {
+		UUID anaId = UUID.randomUUID();
+		userSearchIndex.onUserEvent(new UserEvent(anaId, "Ana Costa", "ana@example.com", "hash",
+				EventType.USER_CREATED, "https://cdn/ana.png"));
+		userSearchIndex.onUserEvent(new UserEvent(mariaId, "Maria Souza", "maria@example.com", "hash",
+				EventType.USER_UPDATED, null));
+
+		assertEquals("https://cdn/ana.png", userSearchIndex.search("costa", 10).get(0).avatarUrl());
+		assertEquals(List.of(joaoId), userSearchIndex.search("silv", 10).stream().map(UserSummaryDTO::id).toList());
+		assertEquals(List.of(mariaId), userSearchIndex.search("souza", 10).stream().map(UserSummaryDTO::id).toList());
+	}
+}
@@ -1,8 +1,12 @@
 package com.bookWise.user.service.service;
 
+import com.bookWise.user.service.config.UserProperties;
+import com.bookWise.user.service.exception.PreconditionFailedException;
 import com.bookWise.user.service.exception.ResourceAlreadyExistsException;
 import com.bookWise.user.service.exception.ResourceNotFoundException;
 import com.bookWise.user.service.mapper.UserEventMapper;
+import com.bookWise.user.service.model.dto.UserBatchResult;
+import com.bookWise.user.service.model.dto.UserSummaryDTO;
 import com.bookWise.user.service.model.entity.User;
 import com.bookWise.user.service.publisher.UserEventPublisher;
 import com.bookWise.user.service.repository.UserRepository;
@@ -14,8 +18,11 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -38,6 +45,15 @@ class UserServiceTest {
 	@Mock
 	private UserEventMapper userEventMapper;
 
+	@Mock
+	private UserProperties userProperties;
+
+	@Mock
+	private UserSearchIndex userSearchIndex;
+
+	@Mock
+	private EmailExistenceFilter emailExistenceFilter;
+
 	@InjectMocks
 	private UserService userService;
 
@@ -151,6 +167,17 @@ class UserServiceTest {
 		assertEquals("newEncodedPassword", capturedUser.getPassword());
 	}
 
+	@Test
+	void shouldNotPublishUpdateWhenVersionCheckFailsOnFlush() {
+		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+		when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		doThrow(new ObjectOptimisticLockingFailureException(User.class, userId)).when(userRepository).flush();
+
+		assertThrows(OptimisticLockingFailureException.class, () -> userService.updateUser(userId, user));
+
+		verifyNoInteractions(userEventPublisher);
+	}
+
 	@Test
 	void shouldThrowExceptionWhenUpdateWithNonExistingId() {
 		when(userRepository.findById(userId)).thenReturn(Optional.empty());
@@ -163,4 +190,43 @@ class UserServiceTest {
 		verifyNoInteractions(passwordEncoder, userEventPublisher);
 		verify(userRepository, never()).save(any());
 	}
+
+	@Test
+	void shouldThrowExceptionWhenUpdateWithStaleVersion() {
+		user.setVersion(3);
+		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+		assertThrows(PreconditionFailedException.class, () -> {
+			userService.updateUser(userId, user, 2L);
+		});
+
+		verifyNoInteractions(passwordEncoder, userEventPublisher);
+		verify(userRepository, never()).save(any());
+	}
+
+	@Test
+	void shouldReportMissingIdsWhenFindSummariesByIds() {
+		UUID missingId = UUID.randomUUID();
+		when(userProperties.getBatchMaxIds()).thenReturn(10);
+		when(userRepository.findSummariesByIdIn(anyCollection()))
+				.thenReturn(List.of(new UserSummaryDTO(userId, "Test User", null)));
+
+		UserBatchResult result = userService.findSummariesByIds(List.of(userId, missingId, userId));
+
+		assertEquals(1, result.users().size());
+		assertEquals(userId, result.users().get(0).id());
+		assertEquals(List.of(missingId), result.missing());
+		verify(userRepository, times(1)).findSummariesByIdIn(anyCollection());
+	}
+
+	@Test
+	void shouldThrowExceptionWhenFindSummariesByIdsExceedsLimit() {
+		when(userProperties.getBatchMaxIds()).thenReturn(1);
+
+		assertThrows(IllegalArgumentException.class, () -> {
+			userService.findSummariesByIds(List.of(userId, UUID.randomUUID()));
+		});
+
+		verifyNoInteractions(userRepository);
+	}
 }
@@ -0,0 +1,39 @@
+package com.bookWise.user.service.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+	@Test
+	void shouldNeverReturnFalseNegatives() {
+		BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("user" + i + "@example.com");
+		}
+
+		for (int i = 0; i < 10_000; i++) {
+			assertTrue(filter.mightContain("user" + i + "@example.com"));
+		}
+	}
+
+	@Test
+	void shouldKeepFalsePositiveRateNearConfiguredRate() {
+		BloomFilter filter = BloomFilter.create(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("user" + i + "@example.com");
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (filter.mightContain("unknown" + i + "@example.org")) {
+				falsePositives++;
+			}
+		}
+
+		assertTrue(falsePositives / 100_000.0 < 0.02);
+		assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+	}
+}